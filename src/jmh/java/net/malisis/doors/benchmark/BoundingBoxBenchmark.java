@@ -0,0 +1,114 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Ordinastie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.malisis.doors.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.malisis.core.block.BoundingBoxType;
+import net.malisis.doors.block.Door;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+/**
+ * Measures {@link Door#getBoundingBox(net.minecraft.world.IBlockAccess, BlockPos, IBlockState, BoundingBoxType)} and
+ * {@link Door#addCollisionBoxToList}, for a mask intersecting the door and for one that misses it.
+ *
+ * @author Ordinastie
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BoundingBoxBenchmark
+{
+	private World world;
+	private Door door;
+	private BlockPos pos;
+	private IBlockState state;
+	private AxisAlignedBB hitMask;
+	private AxisAlignedBB missMask;
+	private final List<AxisAlignedBB> list = new ArrayList<>();
+
+	@Setup
+	public void setup()
+	{
+		HeadlessBootstrap.init();
+
+		world = new StandInWorld(false);
+		door = DoorFixtures.door();
+		pos = new BlockPos(0, 64, 0);
+		DoorFixtures.placeDoor(world, pos, door, EnumFacing.NORTH, true);
+		state = world.getBlockState(pos);
+		hitMask = new AxisAlignedBB(pos).grow(0.5D);
+		missMask = new AxisAlignedBB(pos.east(3));
+	}
+
+	@Benchmark
+	public AxisAlignedBB getBoundingBoxCollision()
+	{
+		return door.getBoundingBox(world, pos, state, BoundingBoxType.COLLISION);
+	}
+
+	@Benchmark
+	public AxisAlignedBB getBoundingBoxSelection()
+	{
+		return door.getBoundingBox(world, pos, state, BoundingBoxType.SELECTION);
+	}
+
+	@Benchmark
+	public List<AxisAlignedBB> addCollisionBoxToListHit()
+	{
+		list.clear();
+		door.addCollisionBoxToList(state, world, pos, hitMask, list, null, false);
+		return list;
+	}
+
+	@Benchmark
+	public List<AxisAlignedBB> addCollisionBoxToListMiss()
+	{
+		list.clear();
+		door.addCollisionBoxToList(state, world, pos, missMask, list, null, false);
+		return list;
+	}
+}
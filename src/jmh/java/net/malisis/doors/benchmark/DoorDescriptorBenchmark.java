@@ -0,0 +1,106 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Ordinastie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.malisis.doors.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.malisis.doors.DoorDescriptor;
+import net.malisis.doors.DoorDescriptor.RedstoneBehavior;
+import net.minecraft.init.Blocks;
+import net.minecraft.init.Items;
+import net.minecraft.nbt.NBTTagCompound;
+
+/**
+ * Measures the {@link DoorDescriptor} NBT serialization, as done for each door saved, loaded or synced with its descriptor.
+ *
+ * @author Ordinastie
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DoorDescriptorBenchmark
+{
+	private DoorDescriptor descriptor;
+	private NBTTagCompound nbt;
+
+	@Setup
+	public void setup()
+	{
+		HeadlessBootstrap.init();
+
+		descriptor = DoorFixtures.doorDescriptor();
+		descriptor.set(Blocks.OAK_DOOR, Items.OAK_DOOR);
+		descriptor.setAutoCloseTime(40);
+		descriptor.setProximityDetection(true);
+		descriptor.setRedstoneBehavior(RedstoneBehavior.REDSTONE_LOCK);
+		descriptor.setCode("1234");
+
+		nbt = new NBTTagCompound();
+		descriptor.writeNBT(nbt);
+	}
+
+	@Benchmark
+	public NBTTagCompound writeNBT()
+	{
+		NBTTagCompound tag = new NBTTagCompound();
+		descriptor.writeNBT(tag);
+		return tag;
+	}
+
+	@Benchmark
+	public DoorDescriptor readNBT()
+	{
+		return new DoorDescriptor(nbt);
+	}
+
+	@Benchmark
+	public DoorDescriptor roundTrip()
+	{
+		NBTTagCompound tag = new NBTTagCompound();
+		descriptor.writeNBT(tag);
+		return new DoorDescriptor(tag);
+	}
+
+	@Benchmark
+	public DoorDescriptor fromNBTInterned()
+	{
+		return DoorDescriptor.fromNBT(nbt);
+	}
+}
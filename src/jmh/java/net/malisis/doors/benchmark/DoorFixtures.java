@@ -0,0 +1,229 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Ordinastie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.malisis.doors.benchmark;
+
+import net.malisis.core.renderer.element.shape.Cube;
+import net.malisis.core.renderer.model.MalisisModel;
+import net.malisis.doors.DoorDescriptor;
+import net.malisis.doors.DoorRegistry;
+import net.malisis.doors.block.BigDoor;
+import net.malisis.doors.block.Door;
+import net.malisis.doors.block.FenceGate;
+import net.malisis.doors.block.RustyHatch;
+import net.malisis.doors.descriptor.SaloonDoor;
+import net.malisis.doors.descriptor.VanillaDoor;
+import net.malisis.doors.descriptor.VanillaTrapDoor;
+import net.malisis.doors.descriptor.VerticalHatch;
+import net.malisis.doors.movement.IDoorMovement;
+import net.malisis.doors.tileentity.DoorTileEntity;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockDoor;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+/**
+ * Blocks, descriptors and models shared by the benchmarks.<br>
+ * Blocks are created but never registered, and are shared between the worlds using them.
+ *
+ * @author Ordinastie
+ *
+ */
+public class DoorFixtures
+{
+	/** Names of all the shapes the movements animate. */
+	private static final String[] SHAPES = { "bottom", "top", "left", "right", "door", "Door", "handle", "Handle4" };
+
+	private static Door door;
+	private static Block trapDoor;
+	private static Block fenceGate;
+	private static Block rustyHatch;
+	private static Block bigDoor;
+	private static Door saloonDoor;
+	private static Door verticalHatch;
+
+	private DoorFixtures()
+	{}
+
+	/**
+	 * Creates a new oak door {@link DoorDescriptor}, not interned so it can still be modified.
+	 *
+	 * @return the descriptor
+	 */
+	public static DoorDescriptor doorDescriptor()
+	{
+		return new VanillaDoor(VanillaDoor.Type.OAK);
+	}
+
+	/**
+	 * Creates the {@link Door} block for the descriptor.
+	 *
+	 * @param descriptor the descriptor
+	 * @return the door
+	 */
+	public static Door door(DoorDescriptor descriptor)
+	{
+		descriptor.create();
+		return (Door) descriptor.getBlock();
+	}
+
+	public static synchronized Door door()
+	{
+		if (door == null)
+			door = door(doorDescriptor());
+		return door;
+	}
+
+	public static synchronized Block trapDoor()
+	{
+		if (trapDoor == null)
+		{
+			DoorDescriptor descriptor = new VanillaTrapDoor(VanillaTrapDoor.Type.WOOD);
+			descriptor.create();
+			trapDoor = descriptor.getBlock();
+		}
+		return trapDoor;
+	}
+
+	public static synchronized Block fenceGate()
+	{
+		if (fenceGate == null)
+			fenceGate = new FenceGate(FenceGate.Type.OAK);
+		return fenceGate;
+	}
+
+	public static synchronized Block rustyHatch()
+	{
+		if (rustyHatch == null)
+			rustyHatch = new RustyHatch();
+		return rustyHatch;
+	}
+
+	public static synchronized Block bigDoor()
+	{
+		if (bigDoor == null)
+			bigDoor = new BigDoor(BigDoor.Type.CARRIAGE);
+		return bigDoor;
+	}
+
+	public static synchronized Door saloonDoor()
+	{
+		if (saloonDoor == null)
+			saloonDoor = door(new SaloonDoor());
+		return saloonDoor;
+	}
+
+	public static synchronized Door verticalHatch()
+	{
+		if (verticalHatch == null)
+			verticalHatch = door(new VerticalHatch());
+		return verticalHatch;
+	}
+
+	/**
+	 * Places both halves of a {@link Door}, without notifying the neighbors.
+	 *
+	 * @param world the world
+	 * @param pos the position of the bottom half
+	 * @param door the door
+	 * @param facing the facing
+	 * @param hingeLeft whether the hinge is on the left
+	 * @return the tile entity of the door
+	 */
+	public static DoorTileEntity placeDoor(World world, BlockPos pos, Door door, EnumFacing facing, boolean hingeLeft)
+	{
+		IBlockState state = door.getDefaultState().withProperty(BlockDoor.FACING, facing).withProperty(BlockDoor.OPEN, false);
+		world.setBlockState(pos, state.withProperty(BlockDoor.HALF, BlockDoor.EnumDoorHalf.LOWER), 2);
+		world.setBlockState(pos.up(), state	.withProperty(BlockDoor.HALF, BlockDoor.EnumDoorHalf.UPPER)
+											.withProperty(BlockDoor.HINGE, hingeLeft	? BlockDoor.EnumHingePosition.LEFT
+																					: BlockDoor.EnumHingePosition.RIGHT), 2);
+		return (DoorTileEntity) world.getTileEntity(pos);
+	}
+
+	/**
+	 * Places a single block door, without notifying the neighbors.
+	 *
+	 * @param world the world
+	 * @param pos the pos
+	 * @param state the state
+	 * @return the tile entity of the door
+	 */
+	public static DoorTileEntity placeBlock(World world, BlockPos pos, IBlockState state)
+	{
+		world.setBlockState(pos, state, 2);
+		return (DoorTileEntity) world.getTileEntity(pos);
+	}
+
+	/**
+	 * Places a door whose {@link DoorTileEntity} can be animated by the movement.<br>
+	 * Movements tied to a specific block get that block, the others get a door using the movement.
+	 *
+	 * @param world the world
+	 * @param pos the pos
+	 * @param movementId the movement id
+	 * @return the tile entity
+	 */
+	public static DoorTileEntity placeFor(World world, BlockPos pos, String movementId)
+	{
+		switch (movementId)
+		{
+			case "trap_door":
+			case "sliding_trapdoor":
+				return placeBlock(world, pos, trapDoor().getDefaultState());
+			case "fence_gate":
+				return placeBlock(world, pos, fenceGate().getDefaultState());
+			case "rusty_hatch":
+				return placeBlock(world, pos, rustyHatch().getDefaultState());
+			case "carriageDoor":
+				return placeBlock(world, pos, bigDoor().getDefaultState());
+			case "saloon_door":
+				return placeDoor(world, pos, saloonDoor(), EnumFacing.NORTH, true);
+			case "vertical_hatch":
+				return placeDoor(world, pos, verticalHatch(), EnumFacing.NORTH, true);
+			default:
+				IDoorMovement movement = DoorRegistry.getMovement(movementId);
+				if (movement == null)
+					throw new IllegalArgumentException("Unknown door movement " + movementId);
+				DoorDescriptor descriptor = doorDescriptor();
+				descriptor.setMovement(movement);
+				return placeDoor(world, pos, door(descriptor), EnumFacing.NORTH, true);
+		}
+	}
+
+	/**
+	 * Creates a {@link MalisisModel} with a shape for every name used by the movements.
+	 *
+	 * @return the model
+	 */
+	public static MalisisModel model()
+	{
+		MalisisModel model = new MalisisModel();
+		for (String name : SHAPES)
+			model.addShape(name, new Cube());
+		model.storeState();
+		return model;
+	}
+}
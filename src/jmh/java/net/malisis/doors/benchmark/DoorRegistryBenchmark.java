@@ -0,0 +1,121 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Ordinastie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.malisis.doors.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.malisis.doors.DoorRegistry;
+import net.malisis.doors.movement.IDoorMovement;
+import net.malisis.doors.sound.IDoorSound;
+
+/**
+ * Measures the {@link DoorRegistry} lookups used when reading descriptors and processing door messages.
+ *
+ * @author Ordinastie
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DoorRegistryBenchmark
+{
+	@Param({ "rotating_door", "sliding_door", "vertical_hatch" })
+	private String movementId;
+	@Param({ "vanilla_door" })
+	private String soundId;
+
+	private IDoorMovement movement;
+	private Class<? extends IDoorMovement> movementClass;
+	private int movementNumId;
+	private IDoorSound sound;
+
+	@Setup
+	public void setup()
+	{
+		HeadlessBootstrap.init();
+
+		movement = DoorRegistry.getMovement(movementId);
+		movementClass = movement.getClass();
+		movementNumId = DoorRegistry.getNumericId(movement);
+		sound = DoorRegistry.getSound(soundId);
+	}
+
+	@Benchmark
+	public IDoorMovement getMovementById()
+	{
+		return DoorRegistry.getMovement(movementId);
+	}
+
+	@Benchmark
+	public IDoorMovement getMovementByClass()
+	{
+		return DoorRegistry.getMovement(movementClass);
+	}
+
+	@Benchmark
+	public IDoorMovement getMovementByNumericId()
+	{
+		return DoorRegistry.getMovement(movementNumId);
+	}
+
+	@Benchmark
+	public String getMovementId()
+	{
+		return DoorRegistry.getId(movement);
+	}
+
+	@Benchmark
+	public int getMovementNumericId()
+	{
+		return DoorRegistry.getNumericId(movement);
+	}
+
+	@Benchmark
+	public IDoorSound getSoundById()
+	{
+		return DoorRegistry.getSound(soundId);
+	}
+
+	@Benchmark
+	public String getSoundId()
+	{
+		return DoorRegistry.getId(sound);
+	}
+}
@@ -0,0 +1,317 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Ordinastie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.malisis.doors.benchmark;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.UUID;
+
+import com.mojang.authlib.GameProfile;
+
+import net.malisis.doors.DoorDescriptor;
+import net.malisis.doors.DoorState;
+import net.malisis.doors.block.Door;
+import net.malisis.doors.block.GarageDoor;
+import net.malisis.doors.tick.DoorTicker;
+import net.malisis.doors.tileentity.DoorTileEntity;
+import net.minecraft.block.Block;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.init.Blocks;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+
+/**
+ * Headless simulation of a large number of doors in a {@link StandInWorld}.<br>
+ * Doors are placed in a grid, then ticked for a number of ticks while redstone blocks are toggled next to some of them and players walk
+ * around the grid. The ticks per second and the allocation rate are reported at the end.<br>
+ * Usage : <code>DoorSimulation [--doors 10000] [--ticks 600] [--warmup 100] [--types door,garage_door,fence_gate,trap_door]
+ * [--toggle-interval 20] [--toggle-fraction 0.05] [--players 20] [--proximity 0.5] [--seed 0]</code>
+ *
+ * @author Ordinastie
+ *
+ */
+public class DoorSimulation
+{
+	/** Distance between two doors of the grid, so that the redstone toggled for one door doesn't power its neighbors. */
+	private static final int SPACING = 3;
+	private static final int GROUND = 64;
+
+	private int doorCount = 10_000;
+	private int ticks = 600;
+	private int warmup = 100;
+	private List<String> types = Arrays.asList("door", "garage_door", "fence_gate", "trap_door");
+	private int toggleInterval = 20;
+	private double toggleFraction = 0.05D;
+	private int playerCount = 20;
+	private double proximity = 0.5D;
+	private long seed = 0;
+
+	private StandInWorld world;
+	private Random random;
+	private final List<BlockPos> doors = new ArrayList<>();
+	private final List<SimulatedPlayer> players = new ArrayList<>();
+	private int gridSize;
+	private long toggles = 0;
+
+	public static void main(String[] args)
+	{
+		DoorSimulation simulation = new DoorSimulation();
+		simulation.parse(args);
+		simulation.run();
+	}
+
+	private void parse(String[] args)
+	{
+		for (int i = 0; i + 1 < args.length; i += 2)
+		{
+			String value = args[i + 1];
+			switch (args[i])
+			{
+				case "--doors":
+					doorCount = Integer.parseInt(value);
+					break;
+				case "--ticks":
+					ticks = Integer.parseInt(value);
+					break;
+				case "--warmup":
+					warmup = Integer.parseInt(value);
+					break;
+				case "--types":
+					types = Arrays.asList(value.split(","));
+					break;
+				case "--toggle-interval":
+					toggleInterval = Integer.parseInt(value);
+					break;
+				case "--toggle-fraction":
+					toggleFraction = Double.parseDouble(value);
+					break;
+				case "--players":
+					playerCount = Integer.parseInt(value);
+					break;
+				case "--proximity":
+					proximity = Double.parseDouble(value);
+					break;
+				case "--seed":
+					seed = Long.parseLong(value);
+					break;
+				default:
+					throw new IllegalArgumentException("Unknown option " + args[i]);
+			}
+		}
+	}
+
+	public void run()
+	{
+		HeadlessBootstrap.init();
+		world = new StandInWorld(false);
+		random = new Random(seed);
+
+		long start = System.nanoTime();
+		placeDoors();
+		spawnPlayers();
+		System.out.printf(Locale.ROOT, "Placed %d doors (%s) in %.1f s%n", doors.size(), String.join(", ", types), seconds(start));
+
+		for (int i = 0; i < warmup; i++)
+			tick(i);
+
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		long threadId = Thread.currentThread().getId();
+		long allocated = threads.getThreadAllocatedBytes(threadId);
+		long gcCount = gcCount();
+		long gcTime = gcTime();
+		long sounds = world.getSoundCount();
+		long toggled = toggles;
+		start = System.nanoTime();
+
+		for (int i = 0; i < ticks; i++)
+			tick(warmup + i);
+
+		double elapsed = seconds(start);
+		allocated = threads.getThreadAllocatedBytes(threadId) - allocated;
+
+		System.out.printf(Locale.ROOT, "Ticks           : %d in %.2f s%n", ticks, elapsed);
+		System.out.printf(Locale.ROOT, "Ticks/sec       : %.1f (%.3f ms/tick)%n", ticks / elapsed, elapsed * 1000 / ticks);
+		System.out.printf(Locale.ROOT, "Allocation rate : %.1f MB/s (%.1f KB/tick)%n", allocated / elapsed / 1_048_576, allocated / 1024D / ticks);
+		System.out.printf(Locale.ROOT, "GC              : %d collections, %d ms%n", gcCount() - gcCount, gcTime() - gcTime);
+		System.out.printf(Locale.ROOT, "Redstone toggles: %d%n", toggles - toggled);
+		System.out.printf(Locale.ROOT, "Sounds played   : %d%n", world.getSoundCount() - sounds);
+		System.out.printf(Locale.ROOT, "Doors scheduled : %d of %d%n", DoorTicker.scheduledCount(world), doors.size());
+		System.out.printf(Locale.ROOT, "Doors opened    : %d%n", openedCount());
+	}
+
+	private void placeDoors()
+	{
+		gridSize = (int) Math.ceil(Math.sqrt(doorCount));
+		DoorDescriptor proximityDescriptor = DoorFixtures.doorDescriptor();
+		proximityDescriptor.setProximityDetection(true);
+		Door proximityDoor = DoorFixtures.door(proximityDescriptor);
+		Block garageDoor = new GarageDoor();
+
+		for (int i = 0; i < doorCount; i++)
+		{
+			BlockPos pos = new BlockPos(i % gridSize * SPACING, GROUND, i / gridSize * SPACING);
+			world.setBlockState(pos.down(), Blocks.STONE.getDefaultState(), 2);
+
+			switch (types.get(i % types.size()))
+			{
+				case "door":
+					Door door = random.nextDouble() < proximity ? proximityDoor : DoorFixtures.door();
+					DoorFixtures.placeDoor(world, pos, door, EnumFacing.NORTH, true);
+					break;
+				case "garage_door":
+					//two blocks high column, the top door drives the column
+					world.setBlockState(pos.up(), garageDoor.getDefaultState(), 2);
+					world.setBlockState(pos, garageDoor.getDefaultState(), 2);
+					break;
+				case "fence_gate":
+					DoorFixtures.placeBlock(world, pos, DoorFixtures.fenceGate().getDefaultState());
+					break;
+				case "trap_door":
+					DoorFixtures.placeBlock(world, pos, DoorFixtures.trapDoor().getDefaultState());
+					break;
+				default:
+					throw new IllegalArgumentException("Unknown door type " + types.get(i % types.size()));
+			}
+			doors.add(pos);
+		}
+	}
+
+	private void spawnPlayers()
+	{
+		for (int i = 0; i < playerCount; i++)
+		{
+			SimulatedPlayer player = new SimulatedPlayer(world, i);
+			player.setPosition(random.nextDouble() * gridSize * SPACING, GROUND, random.nextDouble() * gridSize * SPACING);
+			world.playerEntities.add(player);
+			players.add(player);
+		}
+	}
+
+	private void tick(int tick)
+	{
+		if (toggleInterval > 0 && tick % toggleInterval == 0)
+			toggleRedstone();
+
+		for (SimulatedPlayer player : players)
+			player.walk(random, gridSize * SPACING);
+
+		world.tick();
+	}
+
+	/**
+	 * Places or removes a redstone block next to a random selection of doors, notifying the neighbors like a player would.
+	 */
+	private void toggleRedstone()
+	{
+		int count = (int) (doors.size() * toggleFraction);
+		for (int i = 0; i < count; i++)
+		{
+			BlockPos pos = doors.get(random.nextInt(doors.size())).east();
+			boolean powered = world.getBlockState(pos).getBlock() == Blocks.REDSTONE_BLOCK;
+			world.setBlockState(pos, powered ? Blocks.AIR.getDefaultState() : Blocks.REDSTONE_BLOCK.getDefaultState(), 3);
+			toggles++;
+		}
+	}
+
+	private int openedCount()
+	{
+		int count = 0;
+		for (BlockPos pos : doors)
+		{
+			DoorTileEntity te = (DoorTileEntity) world.getTileEntity(pos);
+			if (te != null && te.getState() != DoorState.CLOSED)
+				count++;
+		}
+		return count;
+	}
+
+	private static double seconds(long start)
+	{
+		return (System.nanoTime() - start) / 1_000_000_000D;
+	}
+
+	private static long gcCount()
+	{
+		long count = 0;
+		for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans())
+			count += Math.max(0, gc.getCollectionCount());
+		return count;
+	}
+
+	private static long gcTime()
+	{
+		long time = 0;
+		for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans())
+			time += Math.max(0, gc.getCollectionTime());
+		return time;
+	}
+
+	/**
+	 * Player walking in straight lines across the grid, turning randomly, at walking speed.
+	 */
+	private static class SimulatedPlayer extends EntityPlayer
+	{
+		private static final double SPEED = 0.2D;
+		private double angle;
+
+		public SimulatedPlayer(StandInWorld world, int index)
+		{
+			super(world, new GameProfile(new UUID(0, index), "Player" + index));
+		}
+
+		public void walk(Random random, int size)
+		{
+			if (random.nextInt(40) == 0)
+				angle = random.nextDouble() * Math.PI * 2;
+
+			double x = posX + Math.cos(angle) * SPEED;
+			double z = posZ + Math.sin(angle) * SPEED;
+			//turn around at the border of the grid
+			if (x < 0 || x > size || z < 0 || z > size)
+			{
+				angle += Math.PI;
+				return;
+			}
+			setPosition(x, posY, z);
+		}
+
+		@Override
+		public boolean isSpectator()
+		{
+			return false;
+		}
+
+		@Override
+		public boolean isCreative()
+		{
+			return false;
+		}
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Ordinastie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.malisis.doors.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.malisis.doors.DoorDescriptor;
+import net.malisis.doors.DoorState;
+import net.malisis.doors.tileentity.DoorTileEntity;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+
+/**
+ * Measures {@link DoorTileEntity#update()} for a door at rest on the server, and for a door in the middle of its animation on the client.
+ *
+ * @author Ordinastie
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DoorTileEntityBenchmark
+{
+	private DoorTileEntity idle;
+	private DoorTileEntity animating;
+
+	@Setup
+	public void setup()
+	{
+		HeadlessBootstrap.init();
+
+		idle = DoorFixtures.placeDoor(new StandInWorld(false), new BlockPos(0, 64, 0), DoorFixtures.door(), EnumFacing.NORTH, true);
+
+		//long enough for the animation to never end while measuring
+		DoorDescriptor descriptor = DoorFixtures.doorDescriptor();
+		descriptor.setOpeningTime(1_000_000);
+		animating = DoorFixtures.placeDoor(	new StandInWorld(true),
+											new BlockPos(0, 64, 0),
+											DoorFixtures.door(descriptor),
+											EnumFacing.NORTH,
+											true);
+		animating.setDoorState(DoorState.OPENING);
+	}
+
+	@Benchmark
+	public void updateIdle()
+	{
+		idle.update();
+	}
+
+	@Benchmark
+	public void updateAnimating()
+	{
+		animating.update();
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Ordinastie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.malisis.doors.benchmark;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+
+import net.minecraft.init.Bootstrap;
+import net.minecraftforge.fml.common.FMLCommonHandler;
+import net.minecraftforge.fml.common.IFMLSidedHandler;
+import net.minecraftforge.fml.relauncher.Side;
+
+/**
+ * Prepares the Minecraft and Forge classes to be used outside of a game instance.<br>
+ * A dedicated server side handler is installed so that {@code MalisisCore.isClient()} answers without FML being loaded, then the vanilla
+ * registries are bootstrapped. Nothing here touches OpenGL or the client, so it runs on a headless machine.
+ *
+ * @author Ordinastie
+ *
+ */
+public class HeadlessBootstrap
+{
+	private static boolean done = false;
+
+	private HeadlessBootstrap()
+	{}
+
+	public static synchronized void init()
+	{
+		if (done)
+			return;
+
+		installSidedHandler();
+		Bootstrap.register();
+		done = true;
+	}
+
+	private static void installSidedHandler()
+	{
+		IFMLSidedHandler handler = (IFMLSidedHandler) Proxy.newProxyInstance(	HeadlessBootstrap.class.getClassLoader(),
+																				new Class<?>[] { IFMLSidedHandler.class },
+																				(proxy, method, args) -> {
+																					if (method.getName().equals("getSide"))
+																						return Side.SERVER;
+																					return defaultValue(method.getReturnType());
+																				});
+		try
+		{
+			Field field = FMLCommonHandler.class.getDeclaredField("sidedDelegate");
+			field.setAccessible(true);
+			field.set(FMLCommonHandler.instance(), handler);
+		}
+		catch (ReflectiveOperationException e)
+		{
+			throw new IllegalStateException("Failed to install the headless side handler", e);
+		}
+	}
+
+	private static Object defaultValue(Class<?> type)
+	{
+		if (type == boolean.class)
+			return false;
+		if (type == int.class)
+			return 0;
+		if (type == long.class)
+			return 0L;
+		if (type == float.class)
+			return 0F;
+		if (type == double.class)
+			return 0D;
+		return null;
+	}
+}
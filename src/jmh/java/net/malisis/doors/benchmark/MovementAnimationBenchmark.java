@@ -0,0 +1,122 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Ordinastie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.malisis.doors.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.malisis.core.renderer.RenderParameters;
+import net.malisis.core.renderer.animation.Animation;
+import net.malisis.core.renderer.model.MalisisModel;
+import net.malisis.doors.DoorRegistry;
+import net.malisis.doors.DoorState;
+import net.malisis.doors.movement.IDoorMovement;
+import net.malisis.doors.tileentity.DoorTileEntity;
+import net.minecraft.util.math.BlockPos;
+
+/**
+ * Measures {@link IDoorMovement#getAnimations(DoorTileEntity, MalisisModel, RenderParameters)} for every registered movement.<br>
+ * The setup fails if a movement is registered without being listed here, so the list can't silently fall behind the registry.
+ *
+ * @author Ordinastie
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MovementAnimationBenchmark
+{
+	@Param({	"rotating_door",
+				"sliding_door",
+				"sliding_up_door",
+				"sliding_split_door",
+				"vault_door",
+				"trap_door",
+				"fence_gate",
+				"rotating_split_door",
+				"sliding_4ways",
+				"rotating_4ways",
+				"rotate_around",
+				"rotate_slide",
+				"rotate_place",
+				"rusty_hatch",
+				"curtain",
+				"carriageDoor",
+				"vanishing_door",
+				"spinning_door",
+				"spinning_around_door",
+				"double_slide_left",
+				"double_slide_right",
+				"double_rotate_left",
+				"double_rotate_right",
+				"sliding_trapdoor",
+				"saloon_door",
+				"vertical_hatch" })
+	private String movementId;
+
+	private IDoorMovement movement;
+	private DoorTileEntity tileEntity;
+	private MalisisModel model;
+	private RenderParameters rp;
+
+	@Setup
+	public void setup() throws NoSuchFieldException
+	{
+		HeadlessBootstrap.init();
+
+		int listed = MovementAnimationBenchmark.class.getDeclaredField("movementId").getAnnotation(Param.class).value().length;
+		int registered = 0;
+		while (DoorRegistry.getMovement(registered) != null)
+			registered++;
+		if (listed != registered)
+			throw new IllegalStateException("The " + listed + " movements listed don't match the " + registered + " registered");
+
+		movement = DoorRegistry.getMovement(movementId);
+		tileEntity = DoorFixtures.placeFor(new StandInWorld(true), new BlockPos(0, 64, 0), movementId);
+		tileEntity.setDoorState(DoorState.OPENING);
+		model = DoorFixtures.model();
+		rp = new RenderParameters();
+	}
+
+	@Benchmark
+	public Animation<?>[] getAnimations()
+	{
+		return movement.getAnimations(tileEntity, model, rp);
+	}
+}
@@ -0,0 +1,186 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Ordinastie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.malisis.doors.benchmark;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.malisis.doors.tick.DoorTicker;
+import net.minecraft.block.Block;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.init.Blocks;
+import net.minecraft.profiler.Profiler;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.SoundCategory;
+import net.minecraft.util.SoundEvent;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.GameType;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldProviderSurface;
+import net.minecraft.world.WorldSettings;
+import net.minecraft.world.WorldType;
+import net.minecraft.world.chunk.IChunkProvider;
+import net.minecraft.world.storage.SaveHandlerMP;
+import net.minecraft.world.storage.WorldInfo;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent.Phase;
+import net.minecraftforge.fml.relauncher.Side;
+
+/**
+ * In-memory {@link World} stand-in, without chunks, lighting or entities ticking.<br>
+ * Block states and tile entities are kept in maps indexed by {@link BlockPos#toLong()}, which is all the door logic needs. Tile entities are
+ * created, loaded and invalidated like in a real world, so they get scheduled in the {@link DoorTicker}, and {@link #tick()} drives it like
+ * the server or client tick would.
+ *
+ * @author Ordinastie
+ *
+ */
+public class StandInWorld extends World
+{
+	private final Long2ObjectMap<IBlockState> states = new Long2ObjectOpenHashMap<>();
+	private final Long2ObjectMap<TileEntity> tileEntities = new Long2ObjectOpenHashMap<>();
+	private long soundCount = 0;
+
+	public StandInWorld(boolean client)
+	{
+		super(new SaveHandlerMP(), new WorldInfo(new WorldSettings(0, GameType.CREATIVE, false, false, WorldType.FLAT), "stand-in"),
+				new WorldProviderSurface(), new Profiler(), client);
+		provider.setWorld(this);
+	}
+
+	@Override
+	protected IChunkProvider createChunkProvider()
+	{
+		return null;
+	}
+
+	@Override
+	protected boolean isChunkLoaded(int x, int z, boolean allowEmpty)
+	{
+		return true;
+	}
+
+	@Override
+	public IBlockState getBlockState(BlockPos pos)
+	{
+		IBlockState state = states.get(pos.toLong());
+		return state != null ? state : Blocks.AIR.getDefaultState();
+	}
+
+	@Override
+	public boolean setBlockState(BlockPos pos, IBlockState newState, int flags)
+	{
+		if (isOutsideBuildHeight(pos))
+			return false;
+
+		long key = pos.toLong();
+		IBlockState oldState = newState.getBlock() == Blocks.AIR ? states.remove(key) : states.put(key, newState);
+		if (oldState == null)
+			oldState = Blocks.AIR.getDefaultState();
+		if (oldState == newState)
+			return false;
+
+		Block block = newState.getBlock();
+		if (oldState.getBlock() != block)
+		{
+			removeTileEntity(pos);
+			if (block.hasTileEntity(newState))
+				setTileEntity(pos, block.createTileEntity(this, newState));
+		}
+
+		if ((flags & 2) != 0)
+			notifyBlockUpdate(pos, oldState, newState, flags);
+		if ((flags & 1) != 0)
+			notifyNeighborsOfStateChange(pos, block, true);
+		return true;
+	}
+
+	@Override
+	public TileEntity getTileEntity(BlockPos pos)
+	{
+		return tileEntities.get(pos.toLong());
+	}
+
+	@Override
+	public void setTileEntity(BlockPos pos, TileEntity tileEntity)
+	{
+		if (tileEntity == null)
+			return;
+
+		removeTileEntity(pos);
+		pos = pos.toImmutable();
+		tileEntity.setWorld(this);
+		tileEntity.setPos(pos);
+		tileEntity.validate();
+		tileEntities.put(pos.toLong(), tileEntity);
+		tileEntity.onLoad();
+	}
+
+	@Override
+	public void removeTileEntity(BlockPos pos)
+	{
+		TileEntity tileEntity = tileEntities.remove(pos.toLong());
+		if (tileEntity != null)
+			tileEntity.invalidate();
+	}
+
+	@Override
+	public void playSound(EntityPlayer player, double x, double y, double z, SoundEvent sound, SoundCategory category, float volume, float pitch)
+	{
+		soundCount++;
+	}
+
+	/**
+	 * Gets the number of sounds played in this world so far.
+	 *
+	 * @return the sound count
+	 */
+	public long getSoundCount()
+	{
+		return soundCount;
+	}
+
+	/**
+	 * Gets the number of tile entities in this world.
+	 *
+	 * @return the tile entity count
+	 */
+	public int getTileEntityCount()
+	{
+		return tileEntities.size();
+	}
+
+	/**
+	 * Advances the world time by one tick and ticks the doors scheduled in the {@link DoorTicker}.
+	 */
+	public void tick()
+	{
+		worldInfo.setWorldTotalTime(worldInfo.getWorldTotalTime() + 1);
+		if (isRemote)
+			DoorTicker.instance.onClientTick(new TickEvent.ClientTickEvent(Phase.END));
+		else
+			DoorTicker.instance.onWorldTick(new TickEvent.WorldTickEvent(Side.SERVER, Phase.END, this));
+	}
+}
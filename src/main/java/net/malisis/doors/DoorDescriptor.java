@@ -25,10 +25,14 @@
 package net.malisis.doors;
 
 import java.util.HashMap;
+import java.util.Objects;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
 import net.malisis.core.MalisisCore;
 import net.malisis.core.block.IRegisterable;
 import net.malisis.core.registry.MalisisRegistry;
@@ -51,11 +55,18 @@ import net.minecraftforge.fml.common.LoaderState;
 import net.minecraftforge.fml.common.registry.ForgeRegistries;
 
 /**
+ * Describes the properties of a door.<br>
+ * Descriptors are mutable while being built, and become immutable once {@link #intern(DoorDescriptor) interned}. Registered descriptors
+ * are interned when registered, and descriptors read from NBT are interned so that identical descriptors share a single instance.
+ *
  * @author Ordinastie
  *
  */
 public class DoorDescriptor
 {
+	/** Pool of the interned descriptors, keyed by the content saved in NBT. */
+	private static final Interner<DoorDescriptor> pool = Interners.newWeakInterner();
+
 	public static enum RedstoneBehavior
 	{
 		STANDARD,
@@ -95,6 +106,8 @@ public class DoorDescriptor
 	//digicode
 	protected String code = null;
 
+	private boolean frozen = false;
+
 	public DoorDescriptor()
 	{
 		movement = DoorRegistry.getMovement(RotatingDoorMovement.class);
@@ -130,6 +143,7 @@ public class DoorDescriptor
 
 	public void setMaterial(Material material)
 	{
+		checkMutable();
 		this.material = material;
 	}
 
@@ -140,6 +154,7 @@ public class DoorDescriptor
 
 	public void setHardness(float hardness)
 	{
+		checkMutable();
 		this.hardness = hardness;
 	}
 
@@ -150,6 +165,7 @@ public class DoorDescriptor
 
 	public void setSoundType(SoundType soundType)
 	{
+		checkMutable();
 		this.soundType = soundType;
 	}
 
@@ -166,6 +182,7 @@ public class DoorDescriptor
 
 	public void setRegistryName(String name)
 	{
+		checkMutable();
 		this.registryName = name;
 	}
 
@@ -176,6 +193,7 @@ public class DoorDescriptor
 
 	public void setUnlocalizedName(String name)
 	{
+		checkMutable();
 		unlocalizedName = name;
 	}
 
@@ -191,6 +209,7 @@ public class DoorDescriptor
 
 	public void setTextureName(String modid, String textureName)
 	{
+		checkMutable();
 		this.modid = modid;
 		this.textureName = textureName;
 	}
@@ -202,6 +221,7 @@ public class DoorDescriptor
 
 	public void setTileEntityClass(Class<? extends DoorTileEntity> clazz)
 	{
+		checkMutable();
 		this.tileEntityClass = clazz;
 	}
 
@@ -212,6 +232,7 @@ public class DoorDescriptor
 
 	public void setMovement(IDoorMovement movement)
 	{
+		checkMutable();
 		this.movement = movement;
 	}
 
@@ -222,6 +243,7 @@ public class DoorDescriptor
 
 	public void setSound(IDoorSound sound)
 	{
+		checkMutable();
 		this.sound = sound;
 	}
 
@@ -232,6 +254,7 @@ public class DoorDescriptor
 
 	public void setOpeningTime(int openingTime)
 	{
+		checkMutable();
 		this.openingTime = openingTime;
 	}
 
@@ -242,6 +265,7 @@ public class DoorDescriptor
 
 	public void setDoubleDoor(boolean doubleDoor)
 	{
+		checkMutable();
 		this.doubleDoor = doubleDoor;
 	}
 
@@ -252,6 +276,7 @@ public class DoorDescriptor
 
 	public void setProximityDetection(boolean proximity)
 	{
+		checkMutable();
 		this.proximityDetection = proximity;
 	}
 
@@ -262,6 +287,7 @@ public class DoorDescriptor
 
 	public void setRedstoneBehavior(RedstoneBehavior redstoneBehavior)
 	{
+		checkMutable();
 		this.redstoneBehavior = redstoneBehavior;
 	}
 
@@ -272,6 +298,7 @@ public class DoorDescriptor
 
 	public void setAutoCloseTime(int autoCloseTime)
 	{
+		checkMutable();
 		this.autoCloseTime = autoCloseTime;
 	}
 
@@ -282,6 +309,7 @@ public class DoorDescriptor
 
 	public void setTab(CreativeTabs tab)
 	{
+		checkMutable();
 		this.tab = tab;
 	}
 
@@ -292,11 +320,13 @@ public class DoorDescriptor
 
 	public void setMaxStackSize(int maxStackSize)
 	{
+		checkMutable();
 		this.maxStackSize = maxStackSize;
 	}
 
 	public void setCode(String code)
 	{
+		checkMutable();
 		this.code = code;
 	}
 
@@ -310,10 +340,22 @@ public class DoorDescriptor
 		return !StringUtils.isEmpty(code);
 	}
 
+	public boolean isFrozen()
+	{
+		return frozen;
+	}
+
+	private void checkMutable()
+	{
+		if (frozen)
+			throw new IllegalStateException("DoorDescriptor for " + registryName + " is interned and cannot be modified.");
+	}
+
 	//#end Getters/Setters
 
 	public void readNBT(NBTTagCompound nbt)
 	{
+		checkMutable();
 		if (nbt.hasKey("name"))
 			registryName = nbt.getString("name");
 		if (nbt.hasKey("modid"))
@@ -366,8 +408,32 @@ public class DoorDescriptor
 			nbt.removeTag("code");
 	}
 
+	/**
+	 * Checks whether the {@link NBTTagCompound} contains a descriptor written with {@link #writeNBT(NBTTagCompound)}.
+	 *
+	 * @param nbt the nbt
+	 * @return true, if the descriptor tags are present
+	 */
+	public static boolean hasNBT(NBTTagCompound nbt)
+	{
+		return nbt.hasKey("block") || nbt.hasKey("movement");
+	}
+
+	/**
+	 * Removes the tags written by {@link #writeNBT(NBTTagCompound)} from the {@link NBTTagCompound}.
+	 *
+	 * @param nbt the nbt
+	 */
+	public static void removeNBT(NBTTagCompound nbt)
+	{
+		for (String key : new String[] { "block", "item", "movement", "sound", "openingTime", "redstoneBehavior", "doubleDoor",
+				"proximityDetection", "autoCloseTime", "code" })
+			nbt.removeTag(key);
+	}
+
 	public void set(Block block, Item item)
 	{
+		checkMutable();
 		this.block = block;
 		this.item = item;
 	}
@@ -394,9 +460,69 @@ public class DoorDescriptor
 		else
 			ForgeRegistries.ITEMS.register(item);
 
+		intern(this);
 		return this;
 	}
 
+	/**
+	 * Gets the shared instance for a {@link DoorDescriptor} with the same content as the one passed.<br>
+	 * If none exists yet, the descriptor passed becomes the shared instance. In both cases, the returned descriptor is immutable.
+	 *
+	 * @param descriptor the descriptor
+	 * @return the interned descriptor
+	 */
+	public static DoorDescriptor intern(DoorDescriptor descriptor)
+	{
+		if (descriptor == null)
+			return null;
+		descriptor.frozen = true;
+		return pool.intern(descriptor);
+	}
+
+	/**
+	 * Reads a {@link DoorDescriptor} from NBT and {@link #intern(DoorDescriptor) interns} it.
+	 *
+	 * @param nbt the nbt
+	 * @return the interned descriptor
+	 */
+	public static DoorDescriptor fromNBT(NBTTagCompound nbt)
+	{
+		return intern(new DoorDescriptor(nbt));
+	}
+
+	/**
+	 * Only the content saved in NBT is compared, so that a descriptor read from NBT matches the registered descriptor it was written from.
+	 */
+	@Override
+	public boolean equals(Object obj)
+	{
+		if (this == obj)
+			return true;
+		if (!(obj instanceof DoorDescriptor))
+			return false;
+
+		DoorDescriptor other = (DoorDescriptor) obj;
+		return block == other.block && item == other.item && movement == other.movement && sound == other.sound
+				&& openingTime == other.openingTime && redstoneBehavior == other.redstoneBehavior && doubleDoor == other.doubleDoor
+				&& proximityDetection == other.proximityDetection && autoCloseTime == other.autoCloseTime
+				&& Objects.equals(StringUtils.defaultIfEmpty(code, null), StringUtils.defaultIfEmpty(other.code, null));
+	}
+
+	@Override
+	public int hashCode()
+	{
+		return Objects.hash(block,
+							item,
+							movement,
+							sound,
+							openingTime,
+							redstoneBehavior,
+							doubleDoor,
+							proximityDetection,
+							autoCloseTime,
+							StringUtils.defaultIfEmpty(code, null));
+	}
+
 	@ModMessage("createDoor")
 	public static Pair<Block, Item> createDoor(HashMap<String, Object> map)
 	{
@@ -0,0 +1,143 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Ordinastie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.malisis.doors;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import net.malisis.doors.tileentity.DoorTileEntity;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraftforge.common.util.Constants.NBT;
+import net.minecraftforge.event.world.ChunkDataEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+
+/**
+ * Stores the {@link DoorDescriptor} of the doors in a chunk as a palette of distinct descriptors.<br>
+ * When a chunk is saved, the descriptors written by the {@link DoorTileEntity} are moved to the palette and replaced by their index in
+ * it. When the chunk is loaded, the doors get their descriptor back from the palette. Doors using their default descriptor don't write
+ * one at all, and doors saved with the full descriptor tags are still read as is.
+ *
+ * @author Ordinastie
+ *
+ */
+public class DoorDescriptorPalette
+{
+	public static final DoorDescriptorPalette instance = new DoorDescriptorPalette();
+
+	private static final String PALETTE_TAG = "malisisdoors:descriptors";
+
+	private final Map<Chunk, List<DoorDescriptor>> palettes = new WeakHashMap<>();
+
+	private DoorDescriptorPalette()
+	{}
+
+	/**
+	 * Sets the descriptor of the {@link DoorTileEntity} from the palette of its chunk.
+	 *
+	 * @param te the door
+	 */
+	public static void resolve(DoorTileEntity te)
+	{
+		if (te.getWorld() == null)
+			return;
+
+		resolve(te, instance.palettes.get(te.getWorld().getChunkFromBlockCoords(te.getPos())));
+	}
+
+	private static void resolve(DoorTileEntity te, List<DoorDescriptor> palette)
+	{
+		int index = te.getPaletteIndex();
+		if (palette == null || index < 0 || index >= palette.size())
+			return;
+
+		te.setDescriptor(palette.get(index));
+	}
+
+	@SubscribeEvent
+	public void onChunkSave(ChunkDataEvent.Save event)
+	{
+		NBTTagList tileEntities = event.getData().getCompoundTag("Level").getTagList("TileEntities", NBT.TAG_COMPOUND);
+		Map<BlockPos, TileEntity> chunkTileEntities = event.getChunk().getTileEntityMap();
+		Map<DoorDescriptor, Integer> indexes = new IdentityHashMap<>();
+		NBTTagList palette = new NBTTagList();
+
+		for (int i = 0; i < tileEntities.tagCount(); i++)
+		{
+			NBTTagCompound nbt = tileEntities.getCompoundTagAt(i);
+			if (!DoorDescriptor.hasNBT(nbt))
+				continue;
+
+			//only touch the tags written by our doors, other tile entities may use the same keys
+			BlockPos pos = new BlockPos(nbt.getInteger("x"), nbt.getInteger("y"), nbt.getInteger("z"));
+			if (!(chunkTileEntities.get(pos) instanceof DoorTileEntity))
+				continue;
+
+			//interned, so identical descriptors share the same index
+			DoorDescriptor descriptor = DoorDescriptor.fromNBT(nbt);
+			Integer index = indexes.get(descriptor);
+			if (index == null)
+			{
+				index = palette.tagCount();
+				NBTTagCompound tag = new NBTTagCompound();
+				descriptor.writeNBT(tag);
+				palette.appendTag(tag);
+				indexes.put(descriptor, index);
+			}
+
+			DoorDescriptor.removeNBT(nbt);
+			nbt.setInteger("descriptorIndex", index);
+		}
+
+		if (palette.tagCount() > 0)
+			event.getData().setTag(PALETTE_TAG, palette);
+	}
+
+	@SubscribeEvent
+	public void onChunkLoad(ChunkDataEvent.Load event)
+	{
+		if (!event.getData().hasKey(PALETTE_TAG))
+			return;
+
+		NBTTagList list = event.getData().getTagList(PALETTE_TAG, NBT.TAG_COMPOUND);
+		List<DoorDescriptor> palette = new ArrayList<>(list.tagCount());
+		for (int i = 0; i < list.tagCount(); i++)
+			palette.add(DoorDescriptor.fromNBT(list.getCompoundTagAt(i)));
+		palettes.put(event.getChunk(), palette);
+
+		//doors already added to the chunk, the others will resolve their descriptor in onLoad()
+		for (TileEntity te : event.getChunk().getTileEntityMap().values())
+		{
+			if (te instanceof DoorTileEntity && ((DoorTileEntity) te).getPaletteIndex() != -1)
+				resolve((DoorTileEntity) te, palette);
+		}
+	}
+}
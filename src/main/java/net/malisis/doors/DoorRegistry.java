@@ -24,11 +24,14 @@
 
 package net.malisis.doors;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 
-import com.google.common.base.Predicate;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
 
 import net.malisis.doors.movement.CarriageDoorMovement;
@@ -71,13 +74,29 @@ import net.malisis.doors.sound.WoodenDoorSound;
 import net.malisis.doors.sound.WoodenTrapDoorSound;
 
 /**
+ * Registry for the {@link IDoorMovement} and {@link IDoorSound}.<br>
+ * Each entry has a string id, used for NBT, and a numeric id given in registration order, used for network packets. Numeric ids are the
+ * same on both sides as long as the same mods are loaded, but should never be saved.
+ *
  * @author Ordinastie
  *
  */
 public class DoorRegistry
 {
-	private static HashMap<String, IDoorMovement> movements = new HashMap<>();
-	private static HashMap<String, IDoorSound> sounds = new HashMap<>();
+	private static Map<String, IDoorMovement> movements = new LinkedHashMap<>();
+	private static Map<IDoorMovement, String> movementIds = new IdentityHashMap<>();
+	private static Map<IDoorMovement, Integer> movementNumIds = new IdentityHashMap<>();
+	private static Map<Class<?>, IDoorMovement> movementClasses = new HashMap<>();
+	private static List<IDoorMovement> movementList = new ArrayList<>();
+	private static ImmutableMap<String, IDoorMovement> publicMovements;
+
+	private static Map<String, IDoorSound> sounds = new LinkedHashMap<>();
+	private static Map<IDoorSound, String> soundIds = new IdentityHashMap<>();
+	private static Map<IDoorSound, Integer> soundNumIds = new IdentityHashMap<>();
+	private static Map<Class<?>, IDoorSound> soundClasses = new HashMap<>();
+	private static List<IDoorSound> soundList = new ArrayList<>();
+	private static ImmutableMap<String, IDoorSound> publicSounds;
+
 	static
 	{
 		registerMovement("rotating_door", new RotatingDoorMovement());
@@ -130,11 +149,10 @@ public class DoorRegistry
 	 */
 	public static IDoorMovement getMovement(Class<? extends IDoorMovement> clazz)
 	{
-		for (IDoorMovement mvt : movements.values())
-			if (mvt.getClass().equals(clazz))
-				return mvt;
-
-		throw new IllegalArgumentException(String.format("Door movement %s not found in the registry", clazz.getSimpleName()));
+		IDoorMovement mvt = movementClasses.get(clazz);
+		if (mvt == null)
+			throw new IllegalArgumentException(String.format("Door movement %s not found in the registry", clazz.getSimpleName()));
+		return mvt;
 	}
 
 	/**
@@ -147,6 +165,11 @@ public class DoorRegistry
 		if (movements.get(id) != null)
 			throw new IllegalArgumentException(String.format("Door movement %s already in registry", id));
 		movements.put(id, movement);
+		movementIds.put(movement, id);
+		movementNumIds.put(movement, movementList.size());
+		movementList.add(movement);
+		movementClasses.putIfAbsent(movement.getClass(), movement);
+		publicMovements = null;
 	}
 
 	/**
@@ -160,6 +183,17 @@ public class DoorRegistry
 		return movements.get(id);
 	}
 
+	/**
+	 * Gets the movement associated to a numeric id in the registry.
+	 *
+	 * @param id the numeric id
+	 * @return the movement, or null if the id is unknown
+	 */
+	public static IDoorMovement getMovement(int id)
+	{
+		return id >= 0 && id < movementList.size() ? movementList.get(id) : null;
+	}
+
 	/**
 	 * Gets the id associated to a movement in the registry.
 	 *
@@ -171,27 +205,41 @@ public class DoorRegistry
 		if (movement == null)
 			return null;
 
-		for (Entry<String, IDoorMovement> entry : movements.entrySet())
-		{
-			if (entry.getValue() == movement)
-				return entry.getKey();
-		}
+		String id = movementIds.get(movement);
+		if (id == null)
+			throw new IllegalArgumentException(String.format(	"Door movement %s not found in the registry",
+																movement.getClass().getSimpleName()));
+		return id;
+	}
+
+	/**
+	 * Gets the numeric id associated to a movement in the registry.
+	 *
+	 * @param movement the movement
+	 * @return the numeric id, or -1 if the movement is null
+	 */
+	public static int getNumericId(IDoorMovement movement)
+	{
+		if (movement == null)
+			return -1;
 
-		throw new IllegalArgumentException(String.format(	"Door movement %s not found in the registry",
-															movement.getClass().getSimpleName()));
+		Integer id = movementNumIds.get(movement);
+		if (id == null)
+			throw new IllegalArgumentException(String.format(	"Door movement %s not found in the registry",
+																movement.getClass().getSimpleName()));
+		return id;
 	}
 
+	/**
+	 * Gets the movements that can be used for regular doors.
+	 *
+	 * @return an immutable map of the movements
+	 */
 	public static Map<String, IDoorMovement> listMovements()
 	{
-		return Maps.filterValues(movements, new Predicate<IDoorMovement>()
-		{
-			@Override
-			public boolean apply(IDoorMovement input)
-			{
-				return !input.isSpecial();
-			}
-		});
-
+		if (publicMovements == null)
+			publicMovements = ImmutableMap.copyOf(Maps.filterValues(movements, mvt -> !mvt.isSpecial()));
+		return publicMovements;
 	}
 
 	//#end Movements
@@ -205,11 +253,10 @@ public class DoorRegistry
 	 */
 	public static IDoorSound getSound(Class<? extends IDoorSound> clazz)
 	{
-		for (IDoorSound snd : sounds.values())
-			if (snd.getClass().equals(clazz))
-				return snd;
-
-		throw new IllegalArgumentException(String.format("Door sound %s not found in the registry", clazz.getSimpleName()));
+		IDoorSound snd = soundClasses.get(clazz);
+		if (snd == null)
+			throw new IllegalArgumentException(String.format("Door sound %s not found in the registry", clazz.getSimpleName()));
+		return snd;
 	}
 
 	/**
@@ -224,6 +271,11 @@ public class DoorRegistry
 			throw new IllegalArgumentException(String.format("Door Sound %s already in registry", id));
 		sound.register();
 		sounds.put(id, sound);
+		soundIds.put(sound, id);
+		soundNumIds.put(sound, soundList.size());
+		soundList.add(sound);
+		soundClasses.putIfAbsent(sound.getClass(), sound);
+		publicSounds = null;
 	}
 
 	/**
@@ -237,36 +289,61 @@ public class DoorRegistry
 		return sounds.get(id);
 	}
 
+	/**
+	 * Gets the Sound associated to a numeric id in the registry.
+	 *
+	 * @param id the numeric id
+	 * @return the sound, or null if the id is unknown
+	 */
+	public static IDoorSound getSound(int id)
+	{
+		return id >= 0 && id < soundList.size() ? soundList.get(id) : null;
+	}
+
 	/**
 	 * Gets the id associated to a Sound in the registry.
 	 *
-	 * @param Sound the sound
+	 * @param sound the sound
 	 * @return the id
 	 */
-	public static String getId(IDoorSound Sound)
+	public static String getId(IDoorSound sound)
 	{
-		if (Sound == null)
+		if (sound == null)
 			return null;
 
-		for (Entry<String, IDoorSound> entry : sounds.entrySet())
-		{
-			if (entry.getValue() == Sound)
-				return entry.getKey();
-		}
+		String id = soundIds.get(sound);
+		if (id == null)
+			throw new IllegalArgumentException(String.format("Door sound %s not found in the registry", sound.getClass().getSimpleName()));
+		return id;
+	}
+
+	/**
+	 * Gets the numeric id associated to a Sound in the registry.
+	 *
+	 * @param sound the sound
+	 * @return the numeric id, or -1 if the sound is null
+	 */
+	public static int getNumericId(IDoorSound sound)
+	{
+		if (sound == null)
+			return -1;
 
-		throw new IllegalArgumentException(String.format("Door sound %s not found in the registry", Sound.getClass().getSimpleName()));
+		Integer id = soundNumIds.get(sound);
+		if (id == null)
+			throw new IllegalArgumentException(String.format("Door sound %s not found in the registry", sound.getClass().getSimpleName()));
+		return id;
 	}
 
+	/**
+	 * Gets the sounds that can be used for regular doors.
+	 *
+	 * @return an immutable map of the sounds
+	 */
 	public static Map<String, IDoorSound> listSounds()
 	{
-		return Maps.filterValues(sounds, new Predicate<IDoorSound>()
-		{
-			@Override
-			public boolean apply(IDoorSound input)
-			{
-				return !(input instanceof RustyHatchSound);
-			}
-		});
+		if (publicSounds == null)
+			publicSounds = ImmutableMap.copyOf(Maps.filterValues(sounds, snd -> !(snd instanceof RustyHatchSound)));
+		return publicSounds;
 	}
 	//#end Sounds
 }
@@ -12,6 +12,7 @@ import net.malisis.core.util.modmessage.ModMessageManager;
 import net.malisis.doors.block.BigDoor;
 import net.malisis.doors.block.CustomDoor;
 import net.malisis.doors.block.Door;
+import net.malisis.doors.block.DoorController;
 import net.malisis.doors.block.DoorFactory;
 import net.malisis.doors.block.FenceGate;
 import net.malisis.doors.block.Forcefield;
@@ -22,19 +23,25 @@ import net.malisis.doors.block.RustyLadder;
 import net.malisis.doors.block.SaloonDoorBlock;
 import net.malisis.doors.block.TrapDoor;
 import net.malisis.doors.block.VerticalHatchDoor;
+import net.malisis.doors.command.DoorProfileCommand;
+import net.malisis.doors.group.DoorGroupRegistry;
 import net.malisis.doors.item.CustomDoorItem;
 import net.malisis.doors.item.DoorItem;
 import net.malisis.doors.item.ForcefieldItem;
 import net.malisis.doors.item.SaloonDoorItem;
 import net.malisis.doors.item.VerticalHatchItem;
+import net.malisis.doors.metrics.DoorStatistics;
 import net.malisis.doors.renderer.ForcefieldRenderer;
 import net.malisis.doors.renderer.RustyHatchRenderer;
+import net.malisis.doors.tick.DoorTicker;
 import net.minecraft.item.Item;
 import net.minecraft.util.ResourceLocation;
+import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.fml.common.Mod;
 import net.minecraftforge.fml.common.Mod.EventHandler;
 import net.minecraftforge.fml.common.event.FMLPostInitializationEvent;
 import net.minecraftforge.fml.common.event.FMLPreInitializationEvent;
+import net.minecraftforge.fml.common.event.FMLServerStartingEvent;
 
 @Mod(	modid = MalisisDoors.modid,
 		name = MalisisDoors.modname,
@@ -93,6 +100,16 @@ public class MalisisDoors implements IMalisisMod
 		ModMessageManager.register(this, DoorDescriptor.class);
 
 		Registers.init();
+
+		MinecraftForge.EVENT_BUS.register(DoorTicker.instance);
+		MinecraftForge.EVENT_BUS.register(DoorDescriptorPalette.instance);
+		MinecraftForge.EVENT_BUS.register(DoorGroupRegistry.instance);
+
+		DoorStatistics.register();
+
+		//registered before the first atlas stitch so the forcefield sprite is loaded
+		if (MalisisCore.isClient())
+			new ForcefieldRenderer();
 	}
 
 	@EventHandler
@@ -100,8 +117,6 @@ public class MalisisDoors implements IMalisisMod
 	{
 		if (MalisisCore.isClient())
 		{
-			new ForcefieldRenderer();
-
 			MalisisRegistry.registerItemRenderer(Items.rustyHandle, RustyHatchRenderer.instance);
 
 			ResourceLocation rl = new ResourceLocation(MalisisDoors.modid + ":fonts/digital-7 (mono).ttf");
@@ -109,6 +124,12 @@ public class MalisisDoors implements IMalisisMod
 		}
 	}
 
+	@EventHandler
+	public void serverStarting(FMLServerStartingEvent event)
+	{
+		event.registerServerCommand(new DoorProfileCommand());
+	}
+
 	public static class Blocks
 	{
 		//Vanilla Blocks
@@ -161,6 +182,7 @@ public class MalisisDoors implements IMalisisMod
 
 		//MalisisDoors blocks
 		public static DoorFactory doorFactory;
+		public static DoorController doorController;
 		public static RustyLadder rustyLadder;
 
 		//3x2 door
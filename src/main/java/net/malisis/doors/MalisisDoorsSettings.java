@@ -39,6 +39,15 @@ public class MalisisDoorsSettings extends Settings
 	@ConfigurationSetting
 	public static Setting<Boolean> use3DItems = new BooleanSetting("config.use3DItems", false);
 
+	@ConfigurationSetting
+	public static Setting<Boolean> sleepIdleDoors = new BooleanSetting("config.sleepIdleDoors", true);
+
+	@ConfigurationSetting
+	public static Setting<Boolean> staticDoorRendering = new BooleanSetting("config.staticDoorRendering", true);
+
+	@ConfigurationSetting
+	public static Setting<Boolean> doorMetrics = new BooleanSetting("config.doorMetrics", true);
+
 	public MalisisDoorsSettings(File file)
 	{
 		super(file);
@@ -48,5 +57,8 @@ public class MalisisDoorsSettings extends Settings
 	protected void initSettings()
 	{
 		modifyVanillaDoors.setComment("config.modifyVanillaDoors.comment");
+		sleepIdleDoors.setComment("config.sleepIdleDoors.comment");
+		staticDoorRendering.setComment("config.staticDoorRendering.comment");
+		doorMetrics.setComment("config.doorMetrics.comment");
 	}
 }
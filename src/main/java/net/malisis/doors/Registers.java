@@ -31,6 +31,7 @@ import net.malisis.core.item.MalisisItem;
 import net.malisis.doors.block.BigDoor;
 import net.malisis.doors.block.CustomDoor;
 import net.malisis.doors.block.Door;
+import net.malisis.doors.block.DoorController;
 import net.malisis.doors.block.DoorFactory;
 import net.malisis.doors.block.FenceGate;
 import net.malisis.doors.block.Forcefield;
@@ -61,6 +62,7 @@ import net.malisis.doors.item.SaloonDoorItem;
 import net.malisis.doors.item.VerticalHatchItem;
 import net.malisis.doors.tileentity.BigDoorTileEntity;
 import net.malisis.doors.tileentity.CustomDoorTileEntity;
+import net.malisis.doors.tileentity.DoorControllerTileEntity;
 import net.malisis.doors.tileentity.DoorFactoryTileEntity;
 import net.malisis.doors.tileentity.DoorTileEntity;
 import net.malisis.doors.tileentity.FenceGateTileEntity;
@@ -72,6 +74,7 @@ import net.malisis.doors.tileentity.TrapDoorTileEntity;
 import net.malisis.doors.tileentity.VerticalHatchTileEntity;
 import net.minecraft.block.material.Material;
 import net.minecraft.item.EnumDyeColor;
+import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.fml.common.registry.GameRegistry;
 
 public class Registers
@@ -108,6 +111,8 @@ public class Registers
 
 		registerDoorFactory();
 
+		registerDoorController();
+
 		registerForcefield();
 
 		modelDoor = new ModelDoor();
@@ -292,6 +297,16 @@ public class Registers
 		GameRegistry.registerTileEntity(DoorFactoryTileEntity.class, "doorFactoryTileEntity");
 	}
 
+	private static void registerDoorController()
+	{
+		doorController = new DoorController();
+		doorController.register();
+		//links doors to the controller item
+		MinecraftForge.EVENT_BUS.register(doorController);
+
+		GameRegistry.registerTileEntity(DoorControllerTileEntity.class, "doorControllerTileEntity");
+	}
+
 	private static void registerCustomDoor()
 	{
 		customDoor = new CustomDoor();
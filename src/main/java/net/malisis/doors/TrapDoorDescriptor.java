@@ -49,6 +49,7 @@ public class TrapDoorDescriptor extends DoorDescriptor
 
 		((IRegisterable<Block>) block).register();
 
+		intern(this);
 		return this;
 	}
 }
@@ -85,7 +85,12 @@ public class BigDoor extends MalisisBlock implements ITileEntityProvider, IChunk
 		}
 	}
 
-	private AxisAlignedBB defaultBoundingBox = new AxisAlignedBB(0, 0, 1 - Door.DOOR_WIDTH, 4, 5, 1);
+	/** Volumes of the closed door, relative to the door before rotation. */
+	public static final AxisAlignedBB[] CLOSED_AABBS = { new AxisAlignedBB(0, 0, 1 - Door.DOOR_WIDTH, 4, 5, 1) };
+	/** Volumes of the opened or moving door : the two opened leaves and the top of the frame. */
+	public static final AxisAlignedBB[] OPENED_AABBS = {	new AxisAlignedBB(0, 0, -0.5F, 0.5F, 4, 1),
+															new AxisAlignedBB(3.5F, 0, -0.5F, 4, 4, 1),
+															new AxisAlignedBB(0, 4, 1 - Door.DOOR_WIDTH, 4, 5, 1) };
 
 	public BigDoor(Type type)
 	{
@@ -132,21 +137,15 @@ public class BigDoor extends MalisisBlock implements ITileEntityProvider, IChunk
 	public AxisAlignedBB[] getBoundingBoxes(IBlockAccess world, BlockPos pos, IBlockState state, BoundingBoxType type)
 	{
 		if (type == BoundingBoxType.PLACEDBOUNDINGBOX)
-			return new AxisAlignedBB[] { defaultBoundingBox };
+			return CLOSED_AABBS.clone();
 		BigDoorTileEntity te = TileEntityUtils.getTileEntity(BigDoorTileEntity.class, world, pos);
 		if (te == null)
 			return AABBUtils.identities();
 
-		AxisAlignedBB[] aabbs = new AxisAlignedBB[] { defaultBoundingBox };
-		if ((type == BoundingBoxType.COLLISION || type == BoundingBoxType.RAYTRACE || type == BoundingBoxType.RENDER)
-				&& (te.isOpened() || te.isMoving()))
-		{
-			aabbs = new AxisAlignedBB[] {	new AxisAlignedBB(0, 0, -0.5F, 0.5F, 4, 1),
-											new AxisAlignedBB(3.5F, 0, -0.5F, 4, 4, 1),
-											new AxisAlignedBB(0, 4, 1 - Door.DOOR_WIDTH, 4, 5, 1) };
-		}
+		if (type == BoundingBoxType.COLLISION || type == BoundingBoxType.RAYTRACE || type == BoundingBoxType.RENDER)
+			return te.getBoundingBoxes();
 
-		return aabbs;
+		return CLOSED_AABBS.clone();
 	}
 
 	@Override
@@ -48,7 +48,11 @@ import net.malisis.doors.DoorDescriptor.RedstoneBehavior;
 import net.malisis.doors.DoorState;
 import net.malisis.doors.gui.DigicodeGui;
 import net.malisis.doors.iconprovider.DoorIconProvider;
+import net.malisis.doors.metrics.DoorMetrics;
+import net.malisis.doors.metrics.DoorMetrics.Probe;
+import net.malisis.doors.movement.BoundingBoxCache;
 import net.malisis.doors.renderer.DoorRenderer;
+import net.malisis.doors.tick.DoorTicker;
 import net.malisis.doors.tileentity.DoorTileEntity;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockDoor;
@@ -77,7 +81,7 @@ import net.minecraftforge.fml.relauncher.SideOnly;
  * @author Ordinastie
  *
  */
-@MalisisRendered(item = DoorRenderer.class)
+@MalisisRendered(DoorRenderer.class)
 public class Door extends BlockDoor implements IBoundingBox, IComponentProvider, IRegisterable<Block>
 {
 	public static Block[] centerBlocks = new Block[] {	Blocks.IRON_BARS,
@@ -180,10 +184,7 @@ public class Door extends BlockDoor implements IBoundingBox, IComponentProvider,
 
 		if (te.getDescriptor().getRedstoneBehavior() == RedstoneBehavior.REDSTONE_LOCK)
 		{
-			if (te.isPowered())
-				return true;
-			DoorTileEntity door = te.getDoubleDoor();
-			if (door != null && door.isPowered())
+			if (te.isPowered() || te.isGroupPowered())
 				return true;
 		}
 
@@ -256,28 +257,9 @@ public class Door extends BlockDoor implements IBoundingBox, IComponentProvider,
 				if (te == null || te.getDescriptor() == null)
 					return;
 
-				if (te.getDescriptor().getRedstoneBehavior() == RedstoneBehavior.HAND_ONLY
-						|| te.getDescriptor().getRedstoneBehavior() == RedstoneBehavior.REDSTONE_LOCK)
-					return;
-
-				//digicode doors can only be opened by hand
-				if (te.getDescriptor().hasCode())
-					return;
-
-				boolean powered = te.isPowered();
-				if ((powered || block.getDefaultState().canProvidePower()) && block != this)
-					te.setPowered(powered);
-
-				//center check
-				boolean centered = te.shouldCenter();
-				DoorTileEntity dd = te.getDoubleDoor();
-				if (dd != null)
-				{
-					centered |= dd.shouldCenter();
-					dd.setCentered(centered);
-				}
-
-				te.setCentered(centered);
+				long start = DoorMetrics.start(te);
+				onNeighborChanged(te, block);
+				DoorMetrics.record(Probe.NEIGHBOR_CHANGED, te, start);
 			}
 		}
 		else
@@ -291,6 +273,38 @@ public class Door extends BlockDoor implements IBoundingBox, IComponentProvider,
 		}
 	}
 
+	/**
+	 * Handles the redstone and centering updates of the door after one of its neighbors changed.
+	 *
+	 * @param te the door
+	 * @param block the neighbor block that changed
+	 */
+	protected void onNeighborChanged(DoorTileEntity te, Block block)
+	{
+		//wake the door up so its state gets reevaluated
+		DoorTicker.schedule(te);
+		te.invalidateDoubleDoor();
+		boolean powered = te.updatePowered();
+
+		//digicode, hand only and redstone locked doors can't be opened by redstone
+		if (!te.canBeControlled())
+			return;
+
+		if ((powered || block.getDefaultState().canProvidePower()) && block != this)
+			te.setPowered(powered);
+
+		//center check
+		boolean centered = te.shouldCenter();
+		DoorTileEntity dd = te.getDoubleDoor();
+		if (dd != null)
+		{
+			centered |= dd.shouldCenter();
+			dd.setCentered(centered);
+		}
+
+		te.setCentered(centered);
+	}
+
 	// #end Events
 
 	protected ItemStack getDoorItemStack(IBlockAccess world, BlockPos pos)
@@ -332,26 +346,32 @@ public class Door extends BlockDoor implements IBoundingBox, IComponentProvider,
 		if (te == null || te.isMoving() || te.getMovement() == null)
 			return null;
 
-		AxisAlignedBB aabb = te.isOpened()	? te.getMovement().getOpenBoundingBox(te, te.isTopBlock(pos), type)
-											: te.getMovement().getClosedBoundingBox(te, te.isTopBlock(pos), type);
-
-		if (aabb != null && te.isCentered())
-			aabb = aabb.offset(0, 0, 0.5F - Door.DOOR_WIDTH / 2);
-
-		aabb = AABBUtils.rotate(aabb, te.getDirection());
-
-		return aabb;
+		return BoundingBoxCache.get(te, te.isTopBlock(pos), type, te.isCentered());
 	}
 
 	@Override
 	public void addCollisionBoxToList(IBlockState state, World world, BlockPos pos, AxisAlignedBB mask, List<AxisAlignedBB> list, Entity entityIn, boolean useActualState)
 	{
-		AxisAlignedBB[] aabbs = getBoundingBoxes(world, pos, state, BoundingBoxType.COLLISION);
-		for (AxisAlignedBB aabb : AABBUtils.offset(pos, aabbs))
-		{
-			if (aabb != null && mask.intersects(aabb))
-				list.add(aabb);
-		}
+		addCollisionBox(getBoundingBox(world, pos, state, BoundingBoxType.COLLISION), pos, mask, list);
+	}
+
+	/**
+	 * Adds the shared {@link AxisAlignedBB} to the list, offset by the {@link BlockPos}, if it intersects the mask.<br>
+	 * The offset box is only allocated when it is actually added.
+	 *
+	 * @param aabb the aabb, relative to the position
+	 * @param pos the pos
+	 * @param mask the mask
+	 * @param list the list
+	 */
+	public static void addCollisionBox(AxisAlignedBB aabb, BlockPos pos, AxisAlignedBB mask, List<AxisAlignedBB> list)
+	{
+		if (aabb == null)
+			return;
+
+		int x = pos.getX(), y = pos.getY(), z = pos.getZ();
+		if (mask.intersects(aabb.minX + x, aabb.minY + y, aabb.minZ + z, aabb.maxX + x, aabb.maxY + y, aabb.maxZ + z))
+			list.add(aabb.offset(pos));
 	}
 
 	@Override
@@ -0,0 +1,153 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Ordinastie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package net.malisis.doors.block;
+
+import java.util.Set;
+
+import net.malisis.core.MalisisCore;
+import net.malisis.core.block.MalisisBlock;
+import net.malisis.core.renderer.icon.provider.IIconProvider;
+import net.malisis.core.util.TileEntityUtils;
+import net.malisis.doors.MalisisDoors;
+import net.malisis.doors.tileentity.DoorControllerTileEntity;
+import net.malisis.doors.tileentity.DoorTileEntity;
+import net.minecraft.block.Block;
+import net.minecraft.block.ITileEntityProvider;
+import net.minecraft.block.material.Material;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumActionResult;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.EnumHand;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.TextComponentTranslation;
+import net.minecraft.world.World;
+import net.minecraftforge.event.entity.player.PlayerInteractEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+
+/**
+ * Block opening and closing a group of doors at once, with redstone or by hand.<br>
+ * Doors are linked by sneaking and right-clicking them with the controller item, before placing it.
+ *
+ * @author Ordinastie
+ *
+ */
+public class DoorController extends MalisisBlock implements ITileEntityProvider
+{
+	public DoorController()
+	{
+		super(Material.IRON);
+		setCreativeTab(MalisisDoors.tab);
+		setName("door_controller");
+		setHardness(3.0F);
+
+		if (MalisisCore.isClient())
+			addComponent(IIconProvider.create(MalisisDoors.modid + ":blocks/", "door_factory_side").build());
+	}
+
+	@Override
+	public boolean onBlockActivated(World world, BlockPos pos, IBlockState state, EntityPlayer player, EnumHand hand, EnumFacing side, float hitX, float hitY, float hitZ)
+	{
+		if (player.isSneaking())
+			return false;
+
+		if (world.isRemote)
+			return true;
+
+		DoorControllerTileEntity te = TileEntityUtils.getTileEntity(DoorControllerTileEntity.class, world, pos);
+		if (te != null)
+			te.toggle();
+		return true;
+	}
+
+	@Override
+	public void neighborChanged(IBlockState state, World world, BlockPos pos, Block neighborBlock, BlockPos fromPos)
+	{
+		if (world.isRemote)
+			return;
+
+		DoorControllerTileEntity te = TileEntityUtils.getTileEntity(DoorControllerTileEntity.class, world, pos);
+		if (te != null)
+			te.setPowered(world.isBlockPowered(pos));
+	}
+
+	/**
+	 * Links or unlinks the door to the controller item when sneaking and right-clicking it.<br>
+	 * The doors are kept in the tile entity tag of the item, which is applied to the controller when it's placed. Doors the player can't
+	 * edit, and doors that can't be {@link DoorTileEntity#canBeControlled() controlled} are refused.
+	 *
+	 * @param event the event
+	 */
+	@SubscribeEvent
+	public void onRightClickBlock(PlayerInteractEvent.RightClickBlock event)
+	{
+		ItemStack itemStack = event.getItemStack();
+		EntityPlayer player = event.getEntityPlayer();
+		if (!player.isSneaking() || itemStack.getItem() != Item.getItemFromBlock(this))
+			return;
+
+		DoorTileEntity te = Door.getDoor(event.getWorld(), event.getPos());
+		if (te == null)
+			return;
+
+		event.setCanceled(true);
+		event.setCancellationResult(EnumActionResult.SUCCESS);
+		if (event.getWorld().isRemote)
+			return;
+
+		if (!event.getWorld().isBlockModifiable(player, te.getPos()) || !player.canPlayerEdit(te.getPos(), event.getFace(), itemStack))
+		{
+			player.sendStatusMessage(new TextComponentTranslation("door_controller.denied"), true);
+			return;
+		}
+
+		if (!te.canBeControlled())
+		{
+			player.sendStatusMessage(new TextComponentTranslation("door_controller.locked"), true);
+			return;
+		}
+
+		NBTTagCompound tag = itemStack.getOrCreateSubCompound("BlockEntityTag");
+		Set<BlockPos> doors = DoorControllerTileEntity.readDoors(tag);
+		boolean linked = doors.add(te.getPos());
+		if (!linked)
+			doors.remove(te.getPos());
+		DoorControllerTileEntity.writeDoors(tag, doors);
+
+		String key = linked ? "door_controller.linked" : "door_controller.unlinked";
+		player.sendStatusMessage(new TextComponentTranslation(key, doors.size()), true);
+	}
+
+	@Override
+	public TileEntity createNewTileEntity(World world, int metadata)
+	{
+		return new DoorControllerTileEntity();
+	}
+}
@@ -44,7 +44,10 @@ import net.malisis.core.util.clientnotif.ClientNotification;
 import net.malisis.doors.DoorState;
 import net.malisis.doors.MalisisDoors;
 import net.malisis.doors.iconprovider.CamoFenceGateIconProvider;
+import net.malisis.doors.metrics.DoorMetrics;
+import net.malisis.doors.metrics.DoorMetrics.Probe;
 import net.malisis.doors.renderer.FenceGateRenderer;
+import net.malisis.doors.tick.DoorTicker;
 import net.malisis.doors.tileentity.FenceGateTileEntity;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockFenceGate;
@@ -193,10 +196,15 @@ public class FenceGate extends BlockFenceGate implements IComponentProvider, IRe
 		if (te == null)
 			return;
 
+		te.invalidateDoubleDoor();
 		if (!world.isRemote) //server
 		{
-			if (world.isBlockIndirectlyGettingPowered(pos) != 0 || neighborBlock.getDefaultState().canProvidePower())
-				te.setPowered(te.isPowered());
+			long start = DoorMetrics.start(te);
+			DoorTicker.schedule(te);
+			boolean powered = te.updatePowered();
+			if (powered || neighborBlock.getDefaultState().canProvidePower())
+				te.setPowered(powered);
+			DoorMetrics.record(Probe.NEIGHBOR_CHANGED, te, start);
 		}
 		else
 		{
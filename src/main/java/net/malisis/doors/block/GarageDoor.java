@@ -37,7 +37,10 @@ import net.malisis.core.renderer.icon.provider.IBlockIconProvider;
 import net.malisis.core.util.TileEntityUtils;
 import net.malisis.doors.DoorState;
 import net.malisis.doors.MalisisDoors;
+import net.malisis.doors.metrics.DoorMetrics;
+import net.malisis.doors.metrics.DoorMetrics.Probe;
 import net.malisis.doors.renderer.GarageDoorRenderer;
+import net.malisis.doors.tick.DoorTicker;
 import net.malisis.doors.tileentity.GarageDoorTileEntity;
 import net.minecraft.block.Block;
 import net.minecraft.block.ITileEntityProvider;
@@ -63,6 +66,9 @@ import net.minecraftforge.fml.relauncher.SideOnly;
 @MalisisRendered(item = GarageDoorRenderer.class)
 public class GarageDoor extends MalisisBlock implements ITileEntityProvider
 {
+	/** Bounding box of a closed garage door, shared for all the queries. */
+	private static final AxisAlignedBB CLOSED_AABB = new AxisAlignedBB(0, 0, 0.5F - Door.DOOR_WIDTH / 2, 1, 1, 0.5F + Door.DOOR_WIDTH / 2);
+
 	public GarageDoor()
 	{
 		super(Material.WOOD);
@@ -96,12 +102,19 @@ public class GarageDoor extends MalisisBlock implements ITileEntityProvider
 	public void neighborChanged(IBlockState state, World world, BlockPos pos, Block neighborBlock, BlockPos fromPos)
 	{
 		GarageDoorTileEntity te = TileEntityUtils.getTileEntity(GarageDoorTileEntity.class, world, pos);
-		if (te == null || te.isMoving())
+		if (te == null)
+			return;
+
+		te.invalidateAssembly();
+		if (te.isMoving())
 			return;
 
+		long start = DoorMetrics.start(te);
+		DoorTicker.schedule(te);
 		boolean powered = world.isBlockIndirectlyGettingPowered(pos) != 0;
 		if ((powered || neighborBlock.getDefaultState().canProvidePower()) && neighborBlock != this)
 			te.getTopDoor().setPowered(powered);
+		DoorMetrics.record(Probe.NEIGHBOR_CHANGED, te, start);
 	}
 
 	@Override
@@ -111,8 +124,7 @@ public class GarageDoor extends MalisisBlock implements ITileEntityProvider
 		if (te != null && (te.isMoving() || te.getState() != DoorState.CLOSED))
 			return null;
 
-		float w = Door.DOOR_WIDTH / 2;
-		return new AxisAlignedBB(0, 0, 0.5F - w, 1, 1, 0.5F + w);
+		return CLOSED_AABB;
 	}
 
 	@Override
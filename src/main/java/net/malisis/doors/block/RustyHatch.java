@@ -46,6 +46,7 @@ import net.malisis.core.util.multiblock.MultiBlock;
 import net.malisis.core.util.multiblock.MultiBlockComponent;
 import net.malisis.core.util.raytrace.RaytraceBlock;
 import net.malisis.doors.MalisisDoors;
+import net.malisis.doors.movement.BoundingBoxCache;
 import net.malisis.doors.renderer.RustyHatchRenderer;
 import net.malisis.doors.tileentity.RustyHatchTileEntity;
 import net.minecraft.block.SoundType;
@@ -73,9 +74,16 @@ import net.minecraft.world.World;
 @MalisisRendered(block = RustyHatchRenderer.class, item = DefaultRenderer.Item.class)
 public class RustyHatch extends MalisisBlock
 {
-	private AABBMultiBlock bottomMultiBlock = new AABBMultiBlock(new AxisAlignedBB(-1, -2, 0, 1, 1, 2));
-	private AABBMultiBlock topMultiBlock = new AABBMultiBlock(new AxisAlignedBB(-1, 0, 0, 1, 3, 2));
+	/** Bounds of the multiblock for a hatch on the ground, relative to its origin. */
+	public static final AxisAlignedBB BOTTOM_BOUNDS = new AxisAlignedBB(-1, -2, 0, 1, 1, 2);
+	/** Bounds of the multiblock for a hatch on the ceiling, relative to its origin. */
+	public static final AxisAlignedBB TOP_BOUNDS = new AxisAlignedBB(-1, 0, 0, 1, 3, 2);
+
+	private AABBMultiBlock bottomMultiBlock = new AABBMultiBlock(BOTTOM_BOUNDS);
+	private AABBMultiBlock topMultiBlock = new AABBMultiBlock(TOP_BOUNDS);
 	public static PropertyBool TOP = PropertyBool.create("top");
+	/** Default BB for rusty ladder is facing south, by default, rusty hatch ladder face the opposite direction. */
+	private static final AxisAlignedBB LADDER_AABB = AABBUtils.rotate(RustyLadder.BOUNDING_BOX, EnumFacing.NORTH);
 
 	public RustyHatch()
 	{
@@ -153,45 +161,34 @@ public class RustyHatch extends MalisisBlock
 			{
 				MBlockState ws = mb.getWorldState(mstate, origin, originState);
 				if (te.shouldLadder(ws.getPos()))
-				{
-					//default BB for rusty ladder is facing south, by default, rusty hacth ladder face the opposite direction
-					AxisAlignedBB aabb = AABBUtils.rotate(RustyLadder.BOUNDING_BOX, EnumFacing.NORTH).offset(mstate.getPos());
-					aabbs.add(aabb);
-				}
+					aabbs.add(AABBUtils.rotate(LADDER_AABB.offset(mstate.getPos()), te.getDirection()));
 			}
 		}
 
 		if (!te.isMoving())
 		{
-			AxisAlignedBB aabb = te.isOpened()	? te.getMovement().getOpenBoundingBox(te, te.isTop(), type)
-												: te.getMovement().getClosedBoundingBox(te, te.isTop(), type);
+			//already rotated
+			AxisAlignedBB aabb = BoundingBoxCache.get(te, te.isTop(), type, false);
 			if (aabb != null)
 				aabbs.add(aabb);
 		}
 
-		AxisAlignedBB[] ret = new AxisAlignedBB[aabbs.size()];
-		for (int i = 0; i < aabbs.size(); i++)
+		//returned AABB expected to be relative to this blockPos, but it's relative to TE's pos, so wee need to offset
+		if (!pos.equals(te.getPos()))
 		{
-			//rotate before origin offset
-			AxisAlignedBB aabb = AABBUtils.rotate(aabbs.get(i), te.getDirection());
-			//returned AABB expected to be relative to this blockPos, but it's relative to TE's pos, so wee need to offset
-			aabb = aabb.offset(te.getPos().subtract(pos));
-
-			ret[i] = aabb;
+			BlockPos offset = te.getPos().subtract(pos);
+			for (int i = 0; i < aabbs.size(); i++)
+				aabbs.set(i, aabbs.get(i).offset(offset));
 		}
 
-		return ret;
+		return aabbs.toArray(new AxisAlignedBB[aabbs.size()]);
 	}
 
 	@Override
 	public void addCollisionBoxToList(IBlockState state, World world, BlockPos pos, AxisAlignedBB mask, List<AxisAlignedBB> list, Entity collidingEntity, boolean useActualState)
 	{
-		AxisAlignedBB[] aabbs = getBoundingBoxes(world, pos, state, BoundingBoxType.COLLISION);
-		for (AxisAlignedBB aabb : AABBUtils.offset(pos, aabbs))
-		{
-			if (aabb != null && mask.intersects(aabb))
-				list.add(aabb);
-		}
+		for (AxisAlignedBB aabb : getBoundingBoxes(world, pos, state, BoundingBoxType.COLLISION))
+			Door.addCollisionBox(aabb, pos, mask, list);
 	}
 
 	@Override
@@ -45,7 +45,11 @@ import net.malisis.doors.DoorDescriptor;
 import net.malisis.doors.DoorDescriptor.RedstoneBehavior;
 import net.malisis.doors.DoorState;
 import net.malisis.doors.TrapDoorDescriptor;
+import net.malisis.doors.metrics.DoorMetrics;
+import net.malisis.doors.metrics.DoorMetrics.Probe;
+import net.malisis.doors.movement.BoundingBoxCache;
 import net.malisis.doors.renderer.TrapDoorRenderer;
+import net.malisis.doors.tick.DoorTicker;
 import net.malisis.doors.tileentity.DoorTileEntity;
 import net.malisis.doors.tileentity.TrapDoorTileEntity;
 import net.minecraft.block.Block;
@@ -153,15 +157,17 @@ public class TrapDoor extends BlockTrapDoor implements IBoundingBox, IComponentP
 			return;
 
 		//Note : redstone behavior is disabled for trapdoors
+		DoorTileEntity te = Door.getDoor(world, pos);
+		if (te == null)
+			return;
 
-		boolean powered = world.isBlockPowered(pos);
-		if (powered || neighborBlock.getDefaultState().canProvidePower())
-		{
-			DoorTileEntity te = Door.getDoor(world, pos);
-			if (te != null)
-				te.setPowered(powered);
-		}
+		long start = DoorMetrics.start(te);
+		DoorTicker.schedule(te);
 
+		boolean powered = te.updatePowered();
+		if (powered || neighborBlock.getDefaultState().canProvidePower())
+			te.setPowered(powered);
+		DoorMetrics.record(Probe.NEIGHBOR_CHANGED, te, start);
 	}
 
 	//#region BoundingBox
@@ -173,22 +179,13 @@ public class TrapDoor extends BlockTrapDoor implements IBoundingBox, IComponentP
 		if (te == null || te.isMoving() || te.getMovement() == null)
 			return null;
 
-		//TODO: closed BB
-		AxisAlignedBB aabb = te.getMovement().getOpenBoundingBox(te, te.isTopBlock(pos), type);
-		aabb = AABBUtils.rotate(aabb, te.getDirection());
-
-		return aabb;
+		return BoundingBoxCache.get(te, false, type, false);
 	}
 
 	@Override
 	public void addCollisionBoxToList(IBlockState state, World world, BlockPos pos, AxisAlignedBB mask, List<AxisAlignedBB> list, Entity entity, boolean useActualState)
 	{
-		AxisAlignedBB[] aabbs = getBoundingBoxes(world, pos, state, BoundingBoxType.COLLISION);
-		for (AxisAlignedBB aabb : AABBUtils.offset(pos, aabbs))
-		{
-			if (aabb != null && mask.intersects(aabb))
-				list.add(aabb);
-		}
+		Door.addCollisionBox(getBoundingBox(world, pos, state, BoundingBoxType.COLLISION), pos, mask, list);
 	}
 
 	@Override
@@ -0,0 +1,176 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Ordinastie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.malisis.doors.command;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import net.malisis.doors.DoorRegistry;
+import net.malisis.doors.MalisisDoorsSettings;
+import net.malisis.doors.metrics.DoorMetrics;
+import net.malisis.doors.metrics.DoorMetrics.ChunkTime;
+import net.malisis.doors.metrics.DoorMetrics.Probe;
+import net.malisis.doors.metrics.LatencyStats;
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.command.WrongUsageException;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.TextComponentTranslation;
+import net.minecraft.util.text.TextFormatting;
+
+/**
+ * Server command printing the {@link DoorMetrics}.<br>
+ * <code>/doorprofile</code> prints the metrics collected since the server started or since the last <code>/doorprofile reset</code>.
+ *
+ * @author Ordinastie
+ *
+ */
+public class DoorProfileCommand extends CommandBase
+{
+	/** Number of entries printed for each top list. */
+	private static final int TOP = 5;
+
+	@Override
+	public String getName()
+	{
+		return "doorprofile";
+	}
+
+	@Override
+	public String getUsage(ICommandSender sender)
+	{
+		return "malisisdoors.command.profile.usage";
+	}
+
+	@Override
+	public int getRequiredPermissionLevel()
+	{
+		return 2;
+	}
+
+	@Override
+	public List<String> getTabCompletions(MinecraftServer server, ICommandSender sender, String[] args, BlockPos targetPos)
+	{
+		if (args.length == 1)
+			return getListOfStringsMatchingLastWord(args, "reset");
+		return Collections.emptyList();
+	}
+
+	@Override
+	public void execute(MinecraftServer server, ICommandSender sender, String[] args) throws CommandException
+	{
+		if (args.length > 1 || (args.length == 1 && !args[0].equals("reset")))
+			throw new WrongUsageException(getUsage(sender));
+
+		if (args.length == 1)
+		{
+			DoorMetrics.reset();
+			send(sender, TextFormatting.GREEN, "malisisdoors.command.profile.reset");
+			return;
+		}
+
+		if (!MalisisDoorsSettings.doorMetrics.get())
+			send(sender, TextFormatting.RED, "malisisdoors.command.profile.disabled");
+
+		long elapsed = System.currentTimeMillis() - DoorMetrics.getStartTime();
+		send(sender, TextFormatting.GOLD, "malisisdoors.command.profile.header", String.format("%.1f", elapsed / 1000F));
+		for (Probe probe : Probe.values())
+		{
+			LatencyStats stats = DoorMetrics.getStats(probe);
+			if (stats.getCount() == 0)
+				continue;
+			send(	sender,
+					TextFormatting.RESET,
+					"malisisdoors.command.profile.probe",
+					probe.getName(),
+					stats.getCount(),
+					String.format("%.2f", stats.getTotal() / 1_000_000F),
+					String.format("%.1f", stats.getAverage() / 1000F),
+					String.format("%.1f", stats.getPercentile(0.99) / 1000F),
+					String.format("%.1f", stats.getMax() / 1000F));
+		}
+
+		sendTop(sender, "malisisdoors.command.profile.descriptors", DoorMetrics.getDescriptorStats(), Function.identity());
+		sendTop(sender, "malisisdoors.command.profile.movements", DoorMetrics.getMovementStats(), DoorRegistry::getId);
+
+		List<ChunkTime> chunks = server.isCallingFromMinecraftThread() ? DoorMetrics.getHottestChunks(TOP) : Collections.emptyList();
+		if (!chunks.isEmpty())
+		{
+			send(sender, TextFormatting.GOLD, "malisisdoors.command.profile.chunks");
+			for (ChunkTime chunk : chunks)
+			{
+				send(	sender,
+						TextFormatting.RESET,
+						"malisisdoors.command.profile.chunk",
+						chunk.getDimension(),
+						chunk.getX(),
+						chunk.getZ(),
+						chunk.getX() << 4,
+						chunk.getZ() << 4,
+						String.format("%.2f", chunk.getTime() / 1_000_000F));
+			}
+		}
+	}
+
+	private <T> void sendTop(ICommandSender sender, String title, Map<T, LatencyStats[]> map, Function<T, String> name)
+	{
+		List<Map.Entry<T, LatencyStats[]>> top = map.entrySet()
+													.stream()
+													.sorted(Comparator.comparingLong((Map.Entry<T, LatencyStats[]> e) -> DoorMetrics.totalTime(e.getValue()))
+																		.reversed())
+													.limit(TOP)
+													.collect(Collectors.toList());
+		if (top.isEmpty())
+			return;
+
+		send(sender, TextFormatting.GOLD, title);
+		for (Map.Entry<T, LatencyStats[]> entry : top)
+		{
+			LatencyStats[] stats = entry.getValue();
+			send(	sender,
+					TextFormatting.RESET,
+					"malisisdoors.command.profile.entry",
+					name.apply(entry.getKey()),
+					String.format("%.2f", DoorMetrics.totalTime(stats) / 1_000_000F),
+					stats[Probe.UPDATE.ordinal()].getCount(),
+					stats[Probe.SET_STATE.ordinal()].getCount(),
+					stats[Probe.NEIGHBOR_CHANGED.ordinal()].getCount(),
+					stats[Probe.PACKET.ordinal()].getCount());
+		}
+	}
+
+	private void send(ICommandSender sender, TextFormatting color, String key, Object... args)
+	{
+		TextComponentTranslation text = new TextComponentTranslation(key, args);
+		text.getStyle().setColor(color);
+		sender.sendMessage(text);
+	}
+}
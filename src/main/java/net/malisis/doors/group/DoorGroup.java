@@ -0,0 +1,306 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Ordinastie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package net.malisis.doors.group;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.google.common.collect.ImmutableSet;
+
+import net.malisis.doors.DoorState;
+import net.malisis.doors.block.Door;
+import net.malisis.doors.network.DoorGroupMessage;
+import net.malisis.doors.tileentity.DoorTileEntity;
+import net.minecraft.util.SoundCategory;
+import net.minecraft.util.SoundEvent;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+/**
+ * Group of doors opened and closed together in a single operation.<br>
+ * The doors of the group change state without syncing themselves nor playing their sound : the group sends a single
+ * {@link DoorGroupMessage} and plays a single sound for all the doors that changed.<br>
+ * Groups are either owned by a {@link net.malisis.doors.tileentity.DoorControllerTileEntity} and registered in the
+ * {@link DoorGroupRegistry}, or made of a door and its double door, see {@link DoorTileEntity#getGroup()}.
+ *
+ * @author Ordinastie
+ *
+ */
+public class DoorGroup
+{
+	private final World world;
+	private final Set<BlockPos> positions;
+
+	public DoorGroup(World world, Collection<BlockPos> positions)
+	{
+		this.world = world;
+		this.positions = ImmutableSet.copyOf(positions);
+	}
+
+	public World getWorld()
+	{
+		return world;
+	}
+
+	public Set<BlockPos> getPositions()
+	{
+		return positions;
+	}
+
+	public boolean contains(BlockPos pos)
+	{
+		return positions.contains(pos);
+	}
+
+	/**
+	 * Gets the doors of this {@link DoorGroup} that are currently loaded.
+	 *
+	 * @return the doors
+	 */
+	public List<DoorTileEntity> getDoors()
+	{
+		List<DoorTileEntity> doors = new ArrayList<>(positions.size());
+		for (BlockPos pos : positions)
+		{
+			DoorTileEntity te = getDoor(pos);
+			if (te != null)
+				doors.add(te);
+		}
+		return doors;
+	}
+
+	private DoorTileEntity getDoor(BlockPos pos)
+	{
+		if (!world.isBlockLoaded(pos))
+			return null;
+
+		DoorTileEntity te = Door.getDoor(world, pos);
+		return te != null && !te.isInvalid() ? te : null;
+	}
+
+	/**
+	 * Checks whether any of the doors of this {@link DoorGroup} is powered.<br>
+	 * Looks the doors up, which is fine for double doors. Registered groups cache it instead, see
+	 * {@link #onDoorPowered(BlockPos, boolean)}.
+	 *
+	 * @return true, if powered
+	 */
+	public boolean isPowered()
+	{
+		for (BlockPos pos : positions)
+		{
+			DoorTileEntity te = getDoor(pos);
+			if (te != null && te.isPowered())
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Called by the doors of a group registered in the {@link DoorGroupRegistry} when their redstone power is refreshed, or when they
+	 * are unloaded.
+	 *
+	 * @param pos the position of the door
+	 * @param powered whether the door is powered
+	 */
+	public void onDoorPowered(BlockPos pos, boolean powered)
+	{}
+
+	/**
+	 * Checks whether the doors of this {@link DoorGroup} are moved by a controller rather than by each other.<br>
+	 * Doors that can't be {@link DoorTileEntity#canBeControlled() controlled} then refuse to move with the group.
+	 *
+	 * @return true, if controlled
+	 */
+	protected boolean isControlled()
+	{
+		return false;
+	}
+
+	/**
+	 * Opens or closes the doors of this {@link DoorGroup} when the redstone power of its controller changes.
+	 *
+	 * @param powered whether the controller is powered
+	 * @return true, if doors changed state
+	 */
+	public boolean setPowered(boolean powered)
+	{
+		return setPowered(powered, null);
+	}
+
+	/**
+	 * Opens or closes the doors of this {@link DoorGroup} when the redstone power of one of them changes.<br>
+	 * The doors stay opened while the group is still {@link #isPowered() powered}.
+	 *
+	 * @param powered whether the source of the change is powered
+	 * @param source the door whose power changed, or null for the controller
+	 * @return true, if doors changed state
+	 */
+	public boolean setPowered(boolean powered, DoorTileEntity source)
+	{
+		if (powered)
+			return open(source);
+		return !isPowered() && close(source);
+	}
+
+	/**
+	 * Opens all the doors of this {@link DoorGroup}.
+	 *
+	 * @return true, if doors changed state
+	 */
+	public boolean open()
+	{
+		return open(null);
+	}
+
+	/**
+	 * Opens all the doors of this {@link DoorGroup}, starting from one of them.<br>
+	 * The source door already passed its own checks, so it's moved even if it can't be controlled.
+	 *
+	 * @param source the door opened, or null for the controller
+	 * @return true, if doors changed state
+	 */
+	public boolean open(DoorTileEntity source)
+	{
+		return move(DoorState.OPENING, source);
+	}
+
+	/**
+	 * Closes all the doors of this {@link DoorGroup}.
+	 *
+	 * @return true, if doors changed state
+	 */
+	public boolean close()
+	{
+		return close(null);
+	}
+
+	/**
+	 * Closes all the doors of this {@link DoorGroup}, starting from one of them.
+	 *
+	 * @param source the door closed, or null for the controller
+	 * @return true, if doors changed state
+	 */
+	public boolean close(DoorTileEntity source)
+	{
+		return move(DoorState.CLOSING, source);
+	}
+
+	/**
+	 * Opens or closes all the doors of this {@link DoorGroup}, based on the state of the first loaded door.
+	 *
+	 * @return true, if doors changed state
+	 */
+	public boolean toggle()
+	{
+		List<DoorTileEntity> doors = getDoors();
+		if (doors.isEmpty())
+			return false;
+		return doors.get(0).getState() == DoorState.OPENED ? close() : open();
+	}
+
+	private boolean move(DoorState newState, DoorTileEntity source)
+	{
+		List<DoorTileEntity> changed = new ArrayList<>();
+		for (DoorTileEntity te : getDoors())
+		{
+			if (te.moveInGroup(newState, te != source && isControlled()))
+				changed.add(te);
+		}
+		return notifyChanged(changed);
+	}
+
+	/**
+	 * Ends the animation of all the doors of this {@link DoorGroup} that finished moving.<br>
+	 * Called when the first of them gets updated, so that the doors started together also stop together.
+	 *
+	 * @return true, if doors changed state
+	 */
+	public boolean endAnimations()
+	{
+		List<DoorTileEntity> changed = new ArrayList<>();
+		for (DoorTileEntity te : getDoors())
+		{
+			if (te.isMoving() && te.getTimer().elapsedTick() > te.getOpeningTime())
+			{
+				te.setDoorState(te.getState() == DoorState.CLOSING ? DoorState.CLOSED : DoorState.OPENED, false);
+				changed.add(te);
+			}
+		}
+		return notifyChanged(changed);
+	}
+
+	private boolean notifyChanged(List<DoorTileEntity> doors)
+	{
+		if (doors.isEmpty())
+			return false;
+
+		if (!world.isRemote)
+		{
+			List<DoorTileEntity> synced = doors.stream().filter(DoorTileEntity::needsSync).collect(Collectors.toList());
+			if (!synced.isEmpty())
+				DoorGroupMessage.send(world, synced);
+			playSound(doors);
+		}
+		return true;
+	}
+
+	/**
+	 * Plays a single sound at the center of the doors.<br>
+	 * The volume grows with the size of the group so that the sound carries to all the doors.
+	 *
+	 * @param doors the doors
+	 */
+	private void playSound(List<DoorTileEntity> doors)
+	{
+		SoundEvent sound = null;
+		int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, minZ = Integer.MAX_VALUE;
+		int maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE, maxZ = Integer.MIN_VALUE;
+		for (DoorTileEntity te : doors)
+		{
+			if (sound == null && te.getDescriptor().getSound() != null)
+				sound = te.getDescriptor().getSound().getSound(te.getState());
+
+			BlockPos pos = te.getPos();
+			minX = Math.min(minX, pos.getX());
+			minY = Math.min(minY, pos.getY());
+			minZ = Math.min(minZ, pos.getZ());
+			maxX = Math.max(maxX, pos.getX());
+			maxY = Math.max(maxY, pos.getY());
+			maxZ = Math.max(maxZ, pos.getZ());
+		}
+
+		if (sound == null)
+			return;
+
+		//sounds are heard 16 blocks away per unit of volume, so reach 16 blocks past the doors at the edges
+		float volume = 1F + Math.max(maxX - minX, Math.max(maxY - minY, maxZ - minZ)) / 32F;
+		world.playSound(null, (minX + maxX + 1) / 2D, (minY + maxY + 1) / 2D, (minZ + maxZ + 1) / 2D, sound, SoundCategory.BLOCKS, volume, 1F);
+	}
+}
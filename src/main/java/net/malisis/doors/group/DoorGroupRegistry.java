@@ -0,0 +1,109 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Ordinastie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package net.malisis.doors.group;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+
+/**
+ * Index of the registered {@link DoorGroup DoorGroups} by door position, so that a door can find the group it belongs to.<br>
+ * Groups only exist on the server : clients get the resulting door states.
+ *
+ * @author Ordinastie
+ *
+ */
+public class DoorGroupRegistry
+{
+	public static final DoorGroupRegistry instance = new DoorGroupRegistry();
+
+	private final Map<World, Long2ObjectMap<DoorGroup>> worlds = new WeakHashMap<>();
+
+	private DoorGroupRegistry()
+	{}
+
+	/**
+	 * Registers the {@link DoorGroup} for all its doors.<br>
+	 * A door belongs to a single group, the last one registered.
+	 *
+	 * @param group the group
+	 */
+	public static void register(DoorGroup group)
+	{
+		if (group.getWorld().isRemote)
+			return;
+
+		Long2ObjectMap<DoorGroup> groups = instance.worlds.computeIfAbsent(group.getWorld(), w -> new Long2ObjectOpenHashMap<>());
+		for (BlockPos pos : group.getPositions())
+			groups.put(pos.toLong(), group);
+	}
+
+	/**
+	 * Unregisters the {@link DoorGroup} from the doors still belonging to it.
+	 *
+	 * @param group the group
+	 */
+	public static void unregister(DoorGroup group)
+	{
+		Long2ObjectMap<DoorGroup> groups = instance.worlds.get(group.getWorld());
+		if (groups == null)
+			return;
+
+		for (BlockPos pos : group.getPositions())
+		{
+			if (groups.get(pos.toLong()) == group)
+				groups.remove(pos.toLong());
+		}
+	}
+
+	/**
+	 * Gets the registered {@link DoorGroup} of the door at the position.
+	 *
+	 * @param world the world
+	 * @param pos the position of the door
+	 * @return the group, or null if the door doesn't belong to one
+	 */
+	public static DoorGroup getGroup(World world, BlockPos pos)
+	{
+		if (world.isRemote)
+			return null;
+
+		Long2ObjectMap<DoorGroup> groups = instance.worlds.get(world);
+		return groups != null ? groups.get(pos.toLong()) : null;
+	}
+
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload event)
+	{
+		worlds.remove(event.getWorld());
+	}
+}
@@ -54,6 +54,7 @@ import net.malisis.core.client.gui.event.ComponentEvent.ValueChange;
 import net.malisis.core.client.gui.event.component.StateChangeEvent.ActiveStateChange;
 import net.malisis.core.inventory.MalisisInventoryContainer;
 import net.malisis.core.renderer.icon.Icon;
+import net.malisis.core.util.ItemUtils;
 import net.malisis.core.util.TileEntityUtils;
 import net.malisis.doors.DoorDescriptor.RedstoneBehavior;
 import net.malisis.doors.DoorRegistry;
@@ -125,6 +126,7 @@ public class DoorFactoryGui extends MalisisGui
 		tabGroup.attachTo(window, false);
 
 		btnCreate = new UIButton(this, "gui.door_factory.create_door").setSize(80).setPosition(0, 110, Anchor.CENTER).register(this);
+		btnCreate.setTooltip(new UITooltip(this, "gui.door_factory.create_door.tooltip"));
 		UISlot outputSlot = new UISlot(this, tileEntity.outputSlot).setPosition(0, 132, Anchor.CENTER);
 
 		UIPlayerInventory playerInv = new UIPlayerInventory(this, inventoryContainer.getPlayerInventory());
@@ -348,7 +350,8 @@ public class DoorFactoryGui extends MalisisGui
 	@Subscribe
 	public void onCreateDoor(UIButton.ClickEvent event)
 	{
-		DoorFactoryMessage.sendCreateDoor(tileEntity);
+		//shift click creates as many doors as the materials allow, up to a full stack
+		DoorFactoryMessage.sendCreateDoor(tileEntity, isShiftKeyDown() ? ItemUtils.FULL_STACK : 1);
 	}
 
 	@Subscribe
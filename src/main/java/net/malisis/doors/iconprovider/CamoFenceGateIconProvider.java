@@ -24,23 +24,40 @@
 
 package net.malisis.doors.iconprovider;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import net.malisis.core.registry.MalisisRegistry;
 import net.malisis.core.renderer.icon.Icon;
 import net.malisis.core.renderer.icon.provider.IBlockIconProvider;
 import net.malisis.core.util.TileEntityUtils;
+import net.malisis.core.util.callback.CallbackResult;
+import net.malisis.core.util.callback.ICallback.CallbackOption;
 import net.malisis.doors.MalisisDoors;
 import net.malisis.doors.tileentity.FenceGateTileEntity;
 import net.minecraft.block.state.IBlockState;
+import net.minecraft.client.renderer.texture.TextureMap;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.IBlockAccess;
 
 /**
+ * Icon provider for the camouflage fence gates.<br>
+ * The icon for each camouflage {@link IBlockState} is built once and shared by all the gates using it, until the textures are stitched
+ * again.
+ *
  * @author Ordinastie
  *
  */
 public class CamoFenceGateIconProvider implements IBlockIconProvider
 {
-	private Icon defaultIcon = Icon.from(MalisisDoors.modid + ":blocks/camo_fencegate");
+	private final Icon defaultIcon = Icon.from(MalisisDoors.modid + ":blocks/camo_fencegate");
+	private final Map<IBlockState, Icon> camoIcons = new ConcurrentHashMap<>();
+
+	public CamoFenceGateIconProvider()
+	{
+		MalisisRegistry.onTextureStitched(this::textureStitched, CallbackOption.of());
+	}
 
 	@Override
 	public Icon getIcon()
@@ -59,7 +76,7 @@ public class CamoFenceGateIconProvider implements IBlockIconProvider
 		if (camoState == null)
 			return getIcon();
 
-		return Icon.from(camoState);
+		return camoIcons.computeIfAbsent(camoState, Icon::from);
 	}
 
 	@Override
@@ -69,6 +86,12 @@ public class CamoFenceGateIconProvider implements IBlockIconProvider
 		return defaultIcon;
 	}
 
+	private CallbackResult<Void> textureStitched(TextureMap map)
+	{
+		camoIcons.clear();
+		return CallbackResult.noResult();
+	}
+
 	public static CamoFenceGateIconProvider get()
 	{
 		return new CamoFenceGateIconProvider();
@@ -36,18 +36,21 @@ import net.minecraft.client.renderer.texture.TextureMap;
 import net.minecraft.util.EnumFacing;
 
 /**
+ * Icon provider for the doors.<br>
+ * The icons for every half, hinge side and face, flips included, are built once after the textures are stitched, and are never modified
+ * afterwards, so they can be shared by all the doors and the renderers.
+ *
  * @author Ordinastie
  *
  */
 public class DoorIconProvider implements IIconProvider
 {
-	protected boolean iconBuilt = false;
 	protected Icon itemIcon;
 	protected Icon top;
 	protected Icon bottom;
 	protected Icon side;
-	protected Icon[] iconTop;
-	protected Icon[] iconBottom;
+	/** Icons indexed by {@link #index(boolean, boolean, EnumFacing)}, null until built for the current textures. */
+	protected volatile Icon[] icons;
 
 	public DoorIconProvider(DoorDescriptor descriptor)
 	{
@@ -64,27 +67,83 @@ public class DoorIconProvider implements IIconProvider
 		MalisisRegistry.onTextureStitched(this::textureStitched, CallbackOption.of());
 	}
 
-	private void buildIcons()
+	private static int index(boolean isTop, boolean isHingeLeft, EnumFacing side)
+	{
+		return (isTop ? 12 : 0) + (isHingeLeft ? 6 : 0) + side.getIndex();
+	}
+
+	/**
+	 * Creates a new {@link Icon} for the face of a door half, before the flips.
+	 *
+	 * @param isTop whether the face is on the top half
+	 * @param face the face
+	 * @return the icon
+	 */
+	protected Icon createIcon(boolean isTop, EnumFacing face)
 	{
 		float w = 3F / 16F;
-		iconTop = new Icon[6];
-		iconTop[0] = new Icon(side).clip(0, 0, w, 1);
-		iconTop[0].setRotation(1);
-		iconTop[1] = iconTop[0];
-		iconTop[2] = top;
-		iconTop[3] = top;
-		iconTop[4] = new Icon(side).clip(w, 0, w, 1);
-		iconTop[5] = new Icon(side).clip(2 * w, 0, w, 1);
-
-		iconBottom = new Icon[6];
-		iconBottom[0] = iconTop[0];
-		iconBottom[1] = iconTop[0];
-		iconBottom[2] = bottom;
-		iconBottom[3] = bottom;
-		iconBottom[4] = new Icon(side).clip(3 * w, 0, w, 1);
-		iconBottom[5] = new Icon(side).clip(4 * w, 0, w, 1);
-
-		iconBuilt = true;
+		switch (face)
+		{
+			case DOWN:
+			case UP:
+				Icon icon = new Icon(side).clip(0, 0, w, 1);
+				icon.setRotation(1);
+				return icon;
+			case NORTH:
+			case SOUTH:
+				return new Icon(isTop ? top : bottom);
+			case WEST:
+				return new Icon(side).clip(isTop ? w : 3 * w, 0, w, 1);
+			case EAST:
+			default:
+				return new Icon(side).clip(isTop ? 2 * w : 4 * w, 0, w, 1);
+		}
+	}
+
+	/**
+	 * Builds the icons for all the halves, hinge sides and faces.
+	 *
+	 * @return the icons
+	 */
+	protected Icon[] buildIcons()
+	{
+		Icon[] icons = new Icon[24];
+		for (int i = 0; i < 4; i++)
+		{
+			boolean isTop = i >= 2;
+			boolean isHingeLeft = (i & 1) == 1;
+			for (EnumFacing side : EnumFacing.values())
+			{
+				EnumFacing face = side;
+				boolean flipH = false;
+				boolean flipV = false;
+
+				switch (side)
+				{
+					case WEST:
+						face = isHingeLeft ? EnumFacing.WEST : EnumFacing.EAST;
+						break;
+					case EAST:
+						face = isHingeLeft ? EnumFacing.EAST : EnumFacing.WEST;
+						break;
+					case UP:
+					case DOWN:
+						flipV = isHingeLeft;
+						break;
+					case NORTH:
+					case SOUTH:
+						flipH = isHingeLeft;
+						break;
+				}
+
+				//each combination gets its own instance so that the flips are never changed afterwards
+				Icon icon = createIcon(isTop, face);
+				icon.flip(flipH, flipV);
+				icons[index(isTop, isHingeLeft, side)] = icon;
+			}
+		}
+
+		return icons;
 	}
 
 	@Override
@@ -94,41 +153,31 @@ public class DoorIconProvider implements IIconProvider
 		return top;
 	}
 
+	/**
+	 * Gets the icon for the face of the door.<br>
+	 * The returned {@link Icon} is shared and must not be modified.
+	 *
+	 * @param isTop whether the face is on the top half
+	 * @param isHingeLeft whether the hinge is on the left
+	 * @param side the side of the face
+	 * @return the icon
+	 */
 	public Icon getIcon(boolean isTop, boolean isHingeLeft, EnumFacing side)
 	{
-		if (!iconBuilt)
-			buildIcons();
-
-		boolean flipH = false;
-		boolean flipV = false;
-
-		switch (side)
+		Icon[] icons = this.icons;
+		if (icons == null)
 		{
-			case WEST:
-				side = isHingeLeft ? EnumFacing.WEST : EnumFacing.EAST;
-				break;
-			case EAST:
-				side = isHingeLeft ? EnumFacing.EAST : EnumFacing.WEST;
-				break;
-			case UP:
-			case DOWN:
-				flipV = isHingeLeft;
-				break;
-			case NORTH:
-			case SOUTH:
-				flipH = isHingeLeft;
-				break;
+			//built lazily so the stitched icons are updated first, concurrent builds yield the same icons
+			icons = buildIcons();
+			this.icons = icons;
 		}
 
-		Icon icon = isTop ? iconTop[side.getIndex()] : iconBottom[side.getIndex()];
-		icon.flip(flipH, flipV);
-
-		return icon;
+		return icons[index(isTop, isHingeLeft, side)];
 	}
 
 	private CallbackResult<Void> textureStitched(TextureMap map)
 	{
-		iconBuilt = false;
+		icons = null;
 		return CallbackResult.noResult();
 	}
 
@@ -31,13 +31,16 @@ import net.minecraft.block.state.IBlockState;
 import net.minecraft.util.EnumFacing;
 
 /**
+ * Icon provider for the saloon doors.<br>
+ * Saloon doors use the same unflipped icon for every face, so it is shared as is and never modified.
+ *
  * @author Ordinastie
  *
  */
 public class SaloonDoorIconProvider implements IBlockIconProvider
 {
-	private Icon itemIcon;
-	private Icon blockIcon;
+	private final Icon itemIcon;
+	private final Icon blockIcon;
 
 	public SaloonDoorIconProvider(DoorDescriptor descriptor)
 	{
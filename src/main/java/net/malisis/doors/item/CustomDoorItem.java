@@ -81,7 +81,7 @@ public class CustomDoorItem extends DoorItem
 	@Override
 	public DoorDescriptor getDescriptor(ItemStack itemStack)
 	{
-		return new DoorDescriptor(itemStack.getTagCompound());
+		return DoorDescriptor.fromNBT(itemStack.getTagCompound());
 	}
 
 	public static ItemStack fromDoorFactory(DoorFactoryTileEntity te)
@@ -0,0 +1,291 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Ordinastie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.malisis.doors.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import net.malisis.doors.DoorDescriptor;
+import net.malisis.doors.MalisisDoorsSettings;
+import net.malisis.doors.movement.IDoorMovement;
+import net.malisis.doors.tileentity.DoorTileEntity;
+import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+
+/**
+ * Server side metrics of the doors.<br>
+ * Each {@link Probe} keeps a {@link LatencyStats} in total, per descriptor and per movement. The time spent updating doors is also summed
+ * per chunk to find the hottest ones. Probes are wrapped with {@link #start(DoorTileEntity)} and
+ * {@link #record(Probe, DoorTileEntity, long)}, which cost two {@link System#nanoTime()} calls and a few map lookups when enabled with
+ * {@link MalisisDoorsSettings#doorMetrics}, and nothing otherwise.<br>
+ * Chunk times are only written and read from the server thread.
+ *
+ * @author Ordinastie
+ *
+ */
+public class DoorMetrics
+{
+	public enum Probe
+	{
+		UPDATE(true),
+		SET_STATE(false),
+		DOUBLE_DOOR(false),
+		PROXIMITY(false),
+		NEIGHBOR_CHANGED(true),
+		PACKET(false);
+
+		private final boolean topLevel;
+
+		private Probe(boolean topLevel)
+		{
+			this.topLevel = topLevel;
+		}
+
+		public String getName()
+		{
+			return name().toLowerCase();
+		}
+
+		/**
+		 * Checks whether this {@link Probe} is measured on its own, and not only from within another probe.
+		 *
+		 * @return true, if top level
+		 */
+		public boolean isTopLevel()
+		{
+			return topLevel;
+		}
+	}
+
+	private static volatile Data data = new Data();
+
+	private DoorMetrics()
+	{}
+
+	/**
+	 * Starts measuring a probe for the {@link DoorTileEntity}.
+	 *
+	 * @param te the door
+	 * @return the start time to pass to {@link #record(Probe, DoorTileEntity, long)}, or 0 if the door is not measured
+	 */
+	public static long start(DoorTileEntity te)
+	{
+		if (!MalisisDoorsSettings.doorMetrics.get())
+			return 0;
+		World world = te.getWorld();
+		if (world == null || world.isRemote)
+			return 0;
+		return System.nanoTime();
+	}
+
+	/**
+	 * Records the time spent in the probe since <code>start</code>.
+	 *
+	 * @param probe the probe
+	 * @param te the door
+	 * @param start the start time returned by {@link #start(DoorTileEntity)}
+	 */
+	public static void record(Probe probe, DoorTileEntity te, long start)
+	{
+		if (start == 0)
+			return;
+
+		long time = System.nanoTime() - start;
+		Data data = DoorMetrics.data;
+		data.total[probe.ordinal()].add(time);
+		stats(data.descriptors, descriptorName(te))[probe.ordinal()].add(time);
+		IDoorMovement movement = te.getMovement();
+		if (movement != null)
+			stats(data.movements, movement)[probe.ordinal()].add(time);
+
+		if (probe == Probe.UPDATE)
+		{
+			int dim = te.getWorld().provider.getDimension();
+			Long2LongOpenHashMap chunks = data.chunks.get(dim);
+			if (chunks == null)
+				data.chunks.put(dim, chunks = new Long2LongOpenHashMap());
+			chunks.addTo(ChunkPos.asLong(te.getPos().getX() >> 4, te.getPos().getZ() >> 4), time);
+		}
+	}
+
+	private static <T> LatencyStats[] stats(Map<T, LatencyStats[]> map, T key)
+	{
+		//get first, computeIfAbsent locks even when the key is present
+		LatencyStats[] stats = map.get(key);
+		if (stats == null)
+			stats = map.computeIfAbsent(key, k -> Data.newStats());
+		return stats;
+	}
+
+	private static String descriptorName(DoorTileEntity te)
+	{
+		DoorDescriptor descriptor = te.getDescriptor();
+		if (descriptor != null && descriptor.getRegistryName() != null)
+			return descriptor.getRegistryName();
+
+		ResourceLocation rl = te.getBlockType() != null ? te.getBlockType().getRegistryName() : null;
+		return rl != null ? rl.toString() : te.getClass().getSimpleName();
+	}
+
+	/**
+	 * Clears all the metrics.
+	 */
+	public static void reset()
+	{
+		data = new Data();
+	}
+
+	/**
+	 * Gets the time the metrics started being collected, in milliseconds.
+	 *
+	 * @return the time
+	 */
+	public static long getStartTime()
+	{
+		return data.startTime;
+	}
+
+	public static LatencyStats getStats(Probe probe)
+	{
+		return data.total[probe.ordinal()];
+	}
+
+	/**
+	 * Gets the stats per descriptor name, indexed by {@link Probe#ordinal()}.
+	 *
+	 * @return the stats
+	 */
+	public static Map<String, LatencyStats[]> getDescriptorStats()
+	{
+		return data.descriptors;
+	}
+
+	/**
+	 * Gets the stats per movement, indexed by {@link Probe#ordinal()}.
+	 *
+	 * @return the stats
+	 */
+	public static Map<IDoorMovement, LatencyStats[]> getMovementStats()
+	{
+		return data.movements;
+	}
+
+	/**
+	 * Gets the chunks where the most time was spent updating doors. Must be called from the server thread.
+	 *
+	 * @param count the maximum number of chunks
+	 * @return the chunks, hottest first
+	 */
+	public static List<ChunkTime> getHottestChunks(int count)
+	{
+		List<ChunkTime> list = new ArrayList<>();
+		for (Int2ObjectMap.Entry<Long2LongOpenHashMap> dim : data.chunks.int2ObjectEntrySet())
+		{
+			for (Long2LongMap.Entry chunk : dim.getValue().long2LongEntrySet())
+				list.add(new ChunkTime(dim.getIntKey(), chunk.getLongKey(), chunk.getLongValue()));
+		}
+		list.sort(Comparator.comparingLong(ChunkTime::getTime).reversed());
+		return list.size() > count ? list.subList(0, count) : list;
+	}
+
+	/**
+	 * Sums the time spent in the {@link Probe#isTopLevel() top level} probes of the stats.<br>
+	 * The other probes mostly run from within {@link Probe#UPDATE}, so adding them would count the same time twice.
+	 *
+	 * @param stats the stats
+	 * @return the total time, in nanoseconds
+	 */
+	public static long totalTime(LatencyStats[] stats)
+	{
+		long total = 0;
+		for (Probe probe : Probe.values())
+		{
+			if (probe.isTopLevel())
+				total += stats[probe.ordinal()].getTotal();
+		}
+		return total;
+	}
+
+	public static class ChunkTime
+	{
+		private final int dimension;
+		private final int x;
+		private final int z;
+		private final long time;
+
+		public ChunkTime(int dimension, long chunk, long time)
+		{
+			this.dimension = dimension;
+			this.x = (int) chunk;
+			this.z = (int) (chunk >> 32);
+			this.time = time;
+		}
+
+		public int getDimension()
+		{
+			return dimension;
+		}
+
+		public int getX()
+		{
+			return x;
+		}
+
+		public int getZ()
+		{
+			return z;
+		}
+
+		public long getTime()
+		{
+			return time;
+		}
+	}
+
+	private static class Data
+	{
+		private final long startTime = System.currentTimeMillis();
+		private final LatencyStats[] total = newStats();
+		private final Map<String, LatencyStats[]> descriptors = new ConcurrentHashMap<>();
+		private final Map<IDoorMovement, LatencyStats[]> movements = new ConcurrentHashMap<>();
+		private final Int2ObjectMap<Long2LongOpenHashMap> chunks = new Int2ObjectOpenHashMap<>();
+
+		private static LatencyStats[] newStats()
+		{
+			LatencyStats[] stats = new LatencyStats[Probe.values().length];
+			for (int i = 0; i < stats.length; i++)
+				stats[i] = new LatencyStats();
+			return stats;
+		}
+	}
+}
@@ -0,0 +1,201 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Ordinastie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package net.malisis.doors.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import net.malisis.core.MalisisCore;
+import net.minecraft.tileentity.TileEntity;
+
+/**
+ * Running counts of the server door subsystem, exported through JMX by {@link #register()}.<br>
+ * Counters are {@link LongAdder LongAdders} updated directly by the tile entities and the network messages, so updating them never blocks
+ * the server thread. Gauges like the loaded tile entities or the active animations are kept by adding and removing each tile entity
+ * contribution, see {@link net.malisis.doors.tileentity.DoorTileEntity#updateStatistics(boolean)}.
+ *
+ * @author Ordinastie
+ *
+ */
+public class DoorStatistics implements DoorStatisticsMXBean
+{
+	public static final DoorStatistics instance = new DoorStatistics();
+
+	private final Map<Class<?>, LongAdder> tileEntities = new ConcurrentHashMap<>();
+	private final LongAdder animations = new LongAdder();
+	private final LongAdder stateTransitions = new LongAdder();
+	private final LongAdder packets = new LongAdder();
+	private final LongAdder packetBytes = new LongAdder();
+	private final LongAdder autoCloseTimers = new LongAdder();
+	private final LongAdder forcefields = new LongAdder();
+	private final LongAdder forcefieldBlocks = new LongAdder();
+
+	private long lastSampleTime = System.nanoTime();
+	private long lastSampleTransitions = 0;
+	private double transitionsPerSecond = 0;
+
+	private DoorStatistics()
+	{}
+
+	/**
+	 * Registers the statistics to the platform MBean server.
+	 */
+	public static void register()
+	{
+		try
+		{
+			ManagementFactory.getPlatformMBeanServer().registerMBean(instance, new ObjectName("net.malisis.doors:type=DoorStatistics"));
+		}
+		catch (JMException e)
+		{
+			MalisisCore.log.error("[MalisisDoors] Failed to register the door statistics MBean.", e);
+		}
+	}
+
+	/**
+	 * Adds or removes a loaded tile entity.
+	 *
+	 * @param te the tile entity
+	 * @param delta 1 when loaded, -1 when unloaded
+	 */
+	public static void tileEntity(TileEntity te, int delta)
+	{
+		LongAdder count = instance.tileEntities.get(te.getClass());
+		if (count == null)
+			count = instance.tileEntities.computeIfAbsent(te.getClass(), c -> new LongAdder());
+		count.add(delta);
+	}
+
+	public static void animation(int delta)
+	{
+		instance.animations.add(delta);
+	}
+
+	public static void stateTransition()
+	{
+		instance.stateTransitions.increment();
+	}
+
+	/**
+	 * Counts a door update packet written to the network.
+	 *
+	 * @param bytes the size of the packet payload
+	 */
+	public static void packetSent(int bytes)
+	{
+		instance.packets.increment();
+		instance.packetBytes.add(bytes);
+	}
+
+	public static void autoCloseTimer(int delta)
+	{
+		instance.autoCloseTimers.add(delta);
+	}
+
+	/**
+	 * Adds or removes a loaded forcefield.
+	 *
+	 * @param delta 1 when loaded, -1 when unloaded
+	 * @param blocks the number of blocks covered by the forcefield
+	 */
+	public static void forcefield(int delta, int blocks)
+	{
+		instance.forcefields.add(delta);
+		instance.forcefieldBlocks.add(delta * blocks);
+	}
+
+	//#region MXBean
+	@Override
+	public Map<String, Long> getTileEntityCounts()
+	{
+		Map<String, Long> counts = new HashMap<>();
+		tileEntities.forEach((clazz, count) -> counts.put(clazz.getSimpleName(), count.sum()));
+		return counts;
+	}
+
+	@Override
+	public long getActiveAnimations()
+	{
+		return animations.sum();
+	}
+
+	@Override
+	public long getStateTransitions()
+	{
+		return stateTransitions.sum();
+	}
+
+	@Override
+	public synchronized double getStateTransitionsPerSecond()
+	{
+		long now = System.nanoTime();
+		if (now - lastSampleTime >= 1_000_000_000L)
+		{
+			long transitions = stateTransitions.sum();
+			transitionsPerSecond = (transitions - lastSampleTransitions) * 1_000_000_000D / (now - lastSampleTime);
+			lastSampleTime = now;
+			lastSampleTransitions = transitions;
+		}
+		return transitionsPerSecond;
+	}
+
+	@Override
+	public long getPacketsSent()
+	{
+		return packets.sum();
+	}
+
+	@Override
+	public long getPacketBytesSent()
+	{
+		return packetBytes.sum();
+	}
+
+	@Override
+	public long getAutoCloseTimersPending()
+	{
+		return autoCloseTimers.sum();
+	}
+
+	@Override
+	public long getForcefieldCount()
+	{
+		return forcefields.sum();
+	}
+
+	@Override
+	public long getForcefieldBlockCount()
+	{
+		return forcefieldBlocks.sum();
+	}
+	//#end MXBean
+}
@@ -0,0 +1,100 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Ordinastie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package net.malisis.doors.metrics;
+
+import java.util.Map;
+
+/**
+ * JMX view of the {@link DoorStatistics}, registered as <code>net.malisis.doors:type=DoorStatistics</code>.
+ *
+ * @author Ordinastie
+ *
+ */
+public interface DoorStatisticsMXBean
+{
+	/**
+	 * Gets the number of loaded server tile entities, per tile entity class.
+	 *
+	 * @return the counts
+	 */
+	public Map<String, Long> getTileEntityCounts();
+
+	/**
+	 * Gets the number of server doors currently opening or closing.
+	 *
+	 * @return the count
+	 */
+	public long getActiveAnimations();
+
+	/**
+	 * Gets the total number of server door state changes.
+	 *
+	 * @return the count
+	 */
+	public long getStateTransitions();
+
+	/**
+	 * Gets the rate of server door state changes, measured between two reads at least one second apart.
+	 *
+	 * @return the rate
+	 */
+	public double getStateTransitionsPerSecond();
+
+	/**
+	 * Gets the number of door update packets sent.
+	 *
+	 * @return the count
+	 */
+	public long getPacketsSent();
+
+	/**
+	 * Gets the number of bytes of door update packets sent.
+	 *
+	 * @return the count
+	 */
+	public long getPacketBytesSent();
+
+	/**
+	 * Gets the number of opened server doors waiting to close automatically.
+	 *
+	 * @return the count
+	 */
+	public long getAutoCloseTimersPending();
+
+	/**
+	 * Gets the number of loaded server forcefields.
+	 *
+	 * @return the count
+	 */
+	public long getForcefieldCount();
+
+	/**
+	 * Gets the number of blocks covered by the loaded server forcefields.
+	 *
+	 * @return the count
+	 */
+	public long getForcefieldBlockCount();
+}
@@ -0,0 +1,99 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Ordinastie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.malisis.doors.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency statistics : call count, total and max time, and a histogram with power of two buckets.<br>
+ * Recording costs a few atomic additions, percentiles are only approximated to the upper bound of their bucket.
+ *
+ * @author Ordinastie
+ *
+ */
+public class LatencyStats
+{
+	private static final int BUCKETS = 40;
+
+	private final LongAdder count = new LongAdder();
+	private final LongAdder total = new LongAdder();
+	private final LongAccumulator max = new LongAccumulator(Long::max, 0);
+	/** Bucket i counts the times lower than 2^(i+1) nanoseconds. */
+	private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+
+	public void add(long nanos)
+	{
+		count.increment();
+		total.add(nanos);
+		max.accumulate(nanos);
+		histogram.incrementAndGet(Math.min(BUCKETS - 1, 63 - Long.numberOfLeadingZeros(Math.max(1, nanos))));
+	}
+
+	public long getCount()
+	{
+		return count.sum();
+	}
+
+	public long getTotal()
+	{
+		return total.sum();
+	}
+
+	public long getMax()
+	{
+		return max.get();
+	}
+
+	public long getAverage()
+	{
+		long c = getCount();
+		return c == 0 ? 0 : getTotal() / c;
+	}
+
+	/**
+	 * Gets the upper bound of the bucket containing the percentile.
+	 *
+	 * @param percentile the percentile, between 0 and 1
+	 * @return the time in nanoseconds
+	 */
+	public long getPercentile(double percentile)
+	{
+		long c = getCount();
+		if (c == 0)
+			return 0;
+
+		long target = (long) Math.ceil(c * percentile);
+		long seen = 0;
+		for (int i = 0; i < BUCKETS; i++)
+		{
+			seen += histogram.get(i);
+			if (seen >= target)
+				return Math.min(1L << (i + 1), getMax());
+		}
+		return getMax();
+	}
+}
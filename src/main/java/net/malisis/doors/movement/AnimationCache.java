@@ -0,0 +1,110 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Ordinastie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.malisis.doors.movement;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.ToIntFunction;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.malisis.core.renderer.animation.Animation;
+import net.malisis.core.renderer.model.MalisisModel;
+import net.malisis.doors.DoorState;
+import net.malisis.doors.tileentity.DoorTileEntity;
+
+/**
+ * Cache for the {@link Animation animations} of an {@link IDoorMovement}.<br>
+ * Animations are built once for each model, hinge side, direction (opening or closing) and opening time, and reused for all the doors
+ * sharing them. The animations built must only depend on these values (and the optional extra key), and are not to be modified.<br>
+ * The cache is shared by the tile entity pass and the chunk builder threads, so it is synchronized.
+ *
+ * @author Ordinastie
+ *
+ */
+public class AnimationCache
+{
+	@FunctionalInterface
+	public interface AnimationFactory
+	{
+		public Animation<?>[] create(DoorTileEntity tileEntity, MalisisModel model);
+	}
+
+	private final AnimationFactory factory;
+	private final ToIntFunction<DoorTileEntity> extraKey;
+	private final Map<MalisisModel, Int2ObjectMap<Animation<?>[]>> cache = new WeakHashMap<>();
+
+	public AnimationCache(AnimationFactory factory)
+	{
+		this(factory, null);
+	}
+
+	/**
+	 * Instantiates a new {@link AnimationCache}.
+	 *
+	 * @param factory the factory building the animations
+	 * @param extraKey additional value the animations depend on, must be lower than 1024
+	 */
+	public AnimationCache(AnimationFactory factory, ToIntFunction<DoorTileEntity> extraKey)
+	{
+		this.factory = factory;
+		this.extraKey = extraKey;
+	}
+
+	private int getKey(DoorTileEntity tileEntity)
+	{
+		boolean reversed = tileEntity.getState() == DoorState.CLOSING || tileEntity.getState() == DoorState.CLOSED;
+		int key = (tileEntity.isHingeLeft() ? 1 : 0) | (reversed ? 2 : 0) | tileEntity.getDescriptor().getOpeningTime() << 2;
+		if (extraKey != null)
+			key |= extraKey.applyAsInt(tileEntity) << 22;
+		return key;
+	}
+
+	/**
+	 * Gets the animations for the door and model, building them if not already cached.
+	 *
+	 * @param tileEntity the tile entity
+	 * @param model the model
+	 * @return the animations
+	 */
+	public synchronized Animation<?>[] get(DoorTileEntity tileEntity, MalisisModel model)
+	{
+		Int2ObjectMap<Animation<?>[]> animations = cache.get(model);
+		if (animations == null)
+		{
+			animations = new Int2ObjectOpenHashMap<>();
+			cache.put(model, animations);
+		}
+
+		int key = getKey(tileEntity);
+		Animation<?>[] anims = animations.get(key);
+		if (anims == null)
+		{
+			anims = factory.create(tileEntity, model);
+			animations.put(key, anims);
+		}
+		return anims;
+	}
+}
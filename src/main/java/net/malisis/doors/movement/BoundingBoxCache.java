@@ -0,0 +1,115 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Ordinastie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package net.malisis.doors.movement;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import net.malisis.core.block.BoundingBoxType;
+import net.malisis.core.util.AABBUtils;
+import net.malisis.doors.block.Door;
+import net.malisis.doors.tileentity.DoorTileEntity;
+import net.malisis.doors.tileentity.TrapDoorTileEntity;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.AxisAlignedBB;
+
+/**
+ * Lookup table for the bounding boxes of the doors at rest.<br>
+ * For each {@link IDoorMovement}, the boxes only depend on the opened state, the half of the door, the {@link BoundingBoxType}, the hinge
+ * side, the centering and the direction. They are computed the first time they are needed, already offset and rotated, and the same
+ * {@link AxisAlignedBB} instances are then shared by all the doors, so querying them doesn't allocate.<br>
+ * Should not be used for moving doors.
+ *
+ * @author Ordinastie
+ *
+ */
+public class BoundingBoxCache
+{
+	/** Marker for the keys for which the movement returns no bounding box. */
+	private static final AxisAlignedBB NONE = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
+	private static final int SIZE = BoundingBoxType.values().length * EnumFacing.values().length << 5;
+	private static final Map<IDoorMovement, AxisAlignedBB[]> tables = new ConcurrentHashMap<>();
+
+	private BoundingBoxCache()
+	{}
+
+	private static int getKey(DoorTileEntity te, EnumFacing direction, boolean topBlock, BoundingBoxType type, boolean centered)
+	{
+		int key = type.ordinal() * EnumFacing.values().length + direction.getIndex();
+		key = key << 1 | (te.isOpened() ? 1 : 0);
+		key = key << 1 | (topBlock ? 1 : 0);
+		key = key << 1 | (te.isHingeLeft() ? 1 : 0);
+		key = key << 1 | (centered ? 1 : 0);
+		key = key << 1 | (te instanceof TrapDoorTileEntity && ((TrapDoorTileEntity) te).isTop() ? 1 : 0);
+		return key;
+	}
+
+	/**
+	 * Gets the bounding box for the {@link DoorTileEntity}, relative to its position.<br>
+	 * The returned {@link AxisAlignedBB} is shared and must not be modified.
+	 *
+	 * @param te the door
+	 * @param topBlock whether the box is for the top block of the door
+	 * @param type the type
+	 * @param centered whether the door is centered in its block
+	 * @return the bounding box, or null if the door has none for this type
+	 */
+	public static AxisAlignedBB get(DoorTileEntity te, boolean topBlock, BoundingBoxType type, boolean centered)
+	{
+		IDoorMovement movement = te.getMovement();
+		if (movement == null)
+			return null;
+
+		EnumFacing direction = te.getDirection();
+		AxisAlignedBB[] table = tables.get(movement);
+		if (table == null)
+			table = tables.computeIfAbsent(movement, m -> new AxisAlignedBB[SIZE]);
+
+		int key = getKey(te, direction, topBlock, type, centered);
+		AxisAlignedBB aabb = table[key];
+		if (aabb == null)
+		{
+			aabb = compute(te, movement, direction, topBlock, type, centered);
+			//boxes are immutable, concurrent fills of the same key store equal values
+			table[key] = aabb != null ? aabb : NONE;
+		}
+
+		return aabb != NONE ? aabb : null;
+	}
+
+	private static AxisAlignedBB compute(DoorTileEntity te, IDoorMovement movement, EnumFacing direction, boolean topBlock, BoundingBoxType type, boolean centered)
+	{
+		AxisAlignedBB aabb = te.isOpened()	? movement.getOpenBoundingBox(te, topBlock, type)
+											: movement.getClosedBoundingBox(te, topBlock, type);
+		if (aabb == null)
+			return null;
+
+		if (centered)
+			aabb = aabb.offset(0, 0, 0.5F - Door.DOOR_WIDTH / 2);
+
+		return AABBUtils.rotate(aabb, direction);
+	}
+}
@@ -40,6 +40,8 @@ import net.minecraft.util.math.AxisAlignedBB;
  */
 public class CarriageDoorMovement implements IDoorMovement
 {
+	private final AnimationCache animations = new AnimationCache(this::createAnimations);
+
 	@Override
 	public AxisAlignedBB getOpenBoundingBox(DoorTileEntity tileEntity, boolean left, BoundingBoxType type)
 	{
@@ -69,13 +71,18 @@ public class CarriageDoorMovement implements IDoorMovement
 		return rotation;
 	}
 
-	@Override
-	public Animation<?>[] getAnimations(DoorTileEntity tileEntity, MalisisModel model, RenderParameters rp)
+	private Animation<?>[] createAnimations(DoorTileEntity tileEntity, MalisisModel model)
 	{
 		return new Animation[] { new Animation<>(model.getShape("left"), getRotation(tileEntity, false)),
 				new Animation<>(model.getShape("right"), getRotation(tileEntity, true)) };
 	}
 
+	@Override
+	public Animation<?>[] getAnimations(DoorTileEntity tileEntity, MalisisModel model, RenderParameters rp)
+	{
+		return animations.get(tileEntity, model);
+	}
+
 	@Override
 	public boolean isSpecial()
 	{
@@ -47,6 +47,7 @@ import net.minecraft.util.math.AxisAlignedBB;
  */
 public class CurtainMovement implements IDoorMovement
 {
+	private final AnimationCache animations = new AnimationCache(this::createAnimations);
 
 	@Override
 	public AxisAlignedBB getOpenBoundingBox(DoorTileEntity tileEntity, boolean topBlock, BoundingBoxType type)
@@ -56,8 +57,7 @@ public class CurtainMovement implements IDoorMovement
 				tileEntity.isHingeLeft() ? aabb.maxX : DOOR_WIDTH, aabb.maxY, aabb.maxZ);
 	}
 
-	@Override
-	public Animation<?>[] getAnimations(DoorTileEntity tileEntity, MalisisModel model, RenderParameters rp)
+	private Animation<?>[] createAnimations(DoorTileEntity tileEntity, MalisisModel model)
 	{
 		float x = 1 - Door.DOOR_WIDTH;
 		String dir = "west";
@@ -90,6 +90,12 @@ public class CurtainMovement implements IDoorMovement
 		return anims;
 	}
 
+	@Override
+	public Animation<?>[] getAnimations(DoorTileEntity tileEntity, MalisisModel model, RenderParameters rp)
+	{
+		return animations.get(tileEntity, model);
+	}
+
 	@Override
 	public boolean isSpecial()
 	{
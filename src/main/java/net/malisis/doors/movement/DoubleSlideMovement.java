@@ -40,6 +40,8 @@ import net.minecraft.util.math.AxisAlignedBB;
  */
 public class DoubleSlideMovement implements IDoorMovement
 {
+	private final AnimationCache animations = new AnimationCache(this::createAnimations);
+
 	boolean rightDirection = false;
 
 	public DoubleSlideMovement(boolean right)
@@ -71,10 +73,15 @@ public class DoubleSlideMovement implements IDoorMovement
 		return translation;
 	}
 
+	private Animation<?>[] createAnimations(DoorTileEntity tileEntity, MalisisModel model)
+	{
+		return new Animation[] { new Animation<>(model, getTransformation(tileEntity)) };
+	}
+
 	@Override
 	public Animation<?>[] getAnimations(DoorTileEntity tileEntity, MalisisModel model, RenderParameters rp)
 	{
-		return new Animation[] { new Animation<>(model, getTransformation(tileEntity)) };
+		return animations.get(tileEntity, model);
 	}
 
 	@Override
@@ -43,6 +43,7 @@ import net.minecraft.util.math.AxisAlignedBB;
  */
 public class RotateAndSlideMovement implements IDoorMovement
 {
+	private final AnimationCache animations = new AnimationCache(this::createAnimations);
 
 	@Override
 	public AxisAlignedBB getOpenBoundingBox(DoorTileEntity tileEntity, boolean topBlock, BoundingBoxType type)
@@ -73,10 +74,15 @@ public class RotateAndSlideMovement implements IDoorMovement
 		return transformation;
 	}
 
+	private Animation<?>[] createAnimations(DoorTileEntity tileEntity, MalisisModel model)
+	{
+		return new Animation[] { new Animation<>(model, getTransformation(tileEntity)) };
+	}
+
 	@Override
 	public Animation<?>[] getAnimations(DoorTileEntity tileEntity, MalisisModel model, RenderParameters rp)
 	{
-		return new Animation[] { new Animation<>(model, getTransformation(tileEntity)) };
+		return animations.get(tileEntity, model);
 	}
 
 	@Override
@@ -40,6 +40,7 @@ import net.minecraft.util.math.AxisAlignedBB;
  */
 public class RotateAroundMovement implements IDoorMovement
 {
+	private final AnimationCache animations = new AnimationCache(this::createAnimations);
 
 	@Override
 	public AxisAlignedBB getOpenBoundingBox(DoorTileEntity tileEntity, boolean topBlock, BoundingBoxType type)
@@ -57,10 +58,15 @@ public class RotateAroundMovement implements IDoorMovement
 		return transformation.forTicks(tileEntity.getDescriptor().getOpeningTime());
 	}
 
+	private Animation<?>[] createAnimations(DoorTileEntity tileEntity, MalisisModel model)
+	{
+		return new Animation[] { new Animation<>(model, getTransformation(tileEntity)) };
+	}
+
 	@Override
 	public Animation<?>[] getAnimations(DoorTileEntity tileEntity, MalisisModel model, RenderParameters rp)
 	{
-		return new Animation[] { new Animation<>(model, getTransformation(tileEntity)) };
+		return animations.get(tileEntity, model);
 	}
 
 	@Override
@@ -42,6 +42,7 @@ import net.minecraft.util.math.AxisAlignedBB;
  */
 public class Rotating4WaysMovement implements IDoorMovement
 {
+	private final AnimationCache animations = new AnimationCache(this::createAnimations);
 
 	@Override
 	public AxisAlignedBB getOpenBoundingBox(DoorTileEntity tileEntity, boolean topBlock, BoundingBoxType type)
@@ -92,13 +93,18 @@ public class Rotating4WaysMovement implements IDoorMovement
 		return rotation;
 	}
 
-	@Override
-	public Animation<?>[] getAnimations(DoorTileEntity tileEntity, MalisisModel model, RenderParameters rp)
+	private Animation<?>[] createAnimations(DoorTileEntity tileEntity, MalisisModel model)
 	{
 		return new Animation[] { new Animation<>(model.getShape("top"), getTransformation(tileEntity, true)),
 				new Animation<>(model.getShape("bottom"), getTransformation(tileEntity, false)) };
 	}
 
+	@Override
+	public Animation<?>[] getAnimations(DoorTileEntity tileEntity, MalisisModel model, RenderParameters rp)
+	{
+		return animations.get(tileEntity, model);
+	}
+
 	@Override
 	public boolean isSpecial()
 	{
@@ -41,6 +41,8 @@ import net.minecraft.util.math.AxisAlignedBB;
  */
 public class RotatingDoorMovement implements IDoorMovement
 {
+	private final AnimationCache animations = new AnimationCache(this::createAnimations);
+
 	@Override
 	public AxisAlignedBB getOpenBoundingBox(DoorTileEntity tileEntity, boolean topBlock, BoundingBoxType type)
 	{
@@ -66,10 +68,15 @@ public class RotatingDoorMovement implements IDoorMovement
 		return rotation;
 	}
 
+	private Animation<?>[] createAnimations(DoorTileEntity tileEntity, MalisisModel model)
+	{
+		return new Animation[] { new Animation<>(model, getTransformation(tileEntity)) };
+	}
+
 	@Override
 	public Animation<?>[] getAnimations(DoorTileEntity tileEntity, MalisisModel model, RenderParameters rp)
 	{
-		return new Animation[] { new Animation<>(model, getTransformation(tileEntity)) };
+		return animations.get(tileEntity, model);
 	}
 
 	@Override
@@ -42,6 +42,8 @@ import net.minecraft.util.math.AxisAlignedBB;
  */
 public class RustyHatchMovement implements IDoorMovement
 {
+	private final AnimationCache animations = new AnimationCache(this::createAnimations, te -> ((RustyHatchTileEntity) te).isTop() ? 1 : 0);
+
 	@Override
 	public AxisAlignedBB getClosedBoundingBox(DoorTileEntity te, boolean topBlock, BoundingBoxType type)
 	{
@@ -91,8 +93,7 @@ public class RustyHatchMovement implements IDoorMovement
 		return rotation;
 	}
 
-	@Override
-	public Animation<?>[] getAnimations(DoorTileEntity tileEntity, MalisisModel model, RenderParameters rp)
+	private Animation<?>[] createAnimations(DoorTileEntity tileEntity, MalisisModel model)
 	{
 		ParallelTransformation transform = new ParallelTransformation(getDoorTransformation(tileEntity),
 				getHandleTransformation(tileEntity));
@@ -100,6 +101,12 @@ public class RustyHatchMovement implements IDoorMovement
 				new Animation<>(model.getShape("handle"), transform) };
 	}
 
+	@Override
+	public Animation<?>[] getAnimations(DoorTileEntity tileEntity, MalisisModel model, RenderParameters rp)
+	{
+		return animations.get(tileEntity, model);
+	}
+
 	@Override
 	public boolean isSpecial()
 	{
@@ -40,6 +40,7 @@ import net.minecraft.util.math.AxisAlignedBB;
  */
 public class Sliding4WaysMovement implements IDoorMovement
 {
+	private final AnimationCache animations = new AnimationCache(this::createAnimations);
 
 	@Override
 	public AxisAlignedBB getOpenBoundingBox(DoorTileEntity tileEntity, boolean topBlock, BoundingBoxType type)
@@ -83,13 +84,18 @@ public class Sliding4WaysMovement implements IDoorMovement
 		return translation;
 	}
 
-	@Override
-	public Animation<?>[] getAnimations(DoorTileEntity tileEntity, MalisisModel model, RenderParameters rp)
+	private Animation<?>[] createAnimations(DoorTileEntity tileEntity, MalisisModel model)
 	{
 		return new Animation[] { new Animation<>(model.getShape("top"), getTransformation(tileEntity, true)),
 				new Animation<>(model.getShape("bottom"), getTransformation(tileEntity, false)) };
 	}
 
+	@Override
+	public Animation<?>[] getAnimations(DoorTileEntity tileEntity, MalisisModel model, RenderParameters rp)
+	{
+		return animations.get(tileEntity, model);
+	}
+
 	@Override
 	public boolean isSpecial()
 	{
@@ -41,6 +41,14 @@ import net.minecraft.util.math.AxisAlignedBB;
  */
 public class SlidingTrapDoorMovement implements IDoorMovement
 {
+	private final AnimationCache animations = new AnimationCache(this::createAnimations, te -> ((TrapDoorTileEntity) te).isTop() ? 1 : 0);
+
+	@Override
+	public AxisAlignedBB getClosedBoundingBox(DoorTileEntity te, boolean topBlock, BoundingBoxType type)
+	{
+		return getOpenBoundingBox(te, topBlock, type);
+	}
+
 	@Override
 	public AxisAlignedBB getOpenBoundingBox(DoorTileEntity tileEntity, boolean topBlock, BoundingBoxType type)
 	{
@@ -62,10 +70,15 @@ public class SlidingTrapDoorMovement implements IDoorMovement
 		return translation;
 	}
 
+	private Animation<?>[] createAnimations(DoorTileEntity tileEntity, MalisisModel model)
+	{
+		return new Animation[] { new Animation<>(model, getTransformation(tileEntity)) };
+	}
+
 	@Override
 	public Animation<?>[] getAnimations(DoorTileEntity tileEntity, MalisisModel model, RenderParameters rp)
 	{
-		return new Animation[] { new Animation<>(model, getTransformation(tileEntity)) };
+		return animations.get(tileEntity, model);
 	}
 
 	@Override
@@ -44,6 +44,8 @@ import net.minecraft.util.math.AxisAlignedBB;
  */
 public class VerticalHatchMovement implements IDoorMovement
 {
+	private final AnimationCache animations = new AnimationCache(this::createAnimations);
+
 	@Override
 	public AxisAlignedBB getClosedBoundingBox(DoorTileEntity te, boolean topBlock, BoundingBoxType type)
 	{
@@ -92,8 +94,7 @@ public class VerticalHatchMovement implements IDoorMovement
 		return rotation;
 	}
 
-	@Override
-	public Animation<?>[] getAnimations(DoorTileEntity tileEntity, MalisisModel model, RenderParameters rp)
+	private Animation<?>[] createAnimations(DoorTileEntity tileEntity, MalisisModel model)
 	{
 		ParallelTransformation transform = new ParallelTransformation(getDoorTransformation(tileEntity),
 				getHandleTransformation(tileEntity));
@@ -101,6 +102,12 @@ public class VerticalHatchMovement implements IDoorMovement
 				new Animation<>(model.getShape("Handle4"), transform) };
 	}
 
+	@Override
+	public Animation<?>[] getAnimations(DoorTileEntity tileEntity, MalisisModel model, RenderParameters rp)
+	{
+		return animations.get(tileEntity, model);
+	}
+
 	@Override
 	public boolean isSpecial()
 	{
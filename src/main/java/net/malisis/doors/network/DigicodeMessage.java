@@ -56,12 +56,8 @@ public class DigicodeMessage implements IMalisisMessageHandler<DigicodeMessage.P
 		if (te == null)
 			return;
 
+		//auto-close is handled by the door itself through the DoorTicker
 		te.openOrCloseDoor();
-
-		if (te.getDescriptor().getAutoCloseTime() > 0 && !te.isOpened())
-			world.scheduleBlockUpdate(message.pos, world.getBlockState(message.pos).getBlock(), te.getDescriptor().getAutoCloseTime()
-					+ te.getDescriptor().getOpeningTime(), 0);
-
 		return;
 	}
 
@@ -72,7 +72,7 @@ public class DoorFactoryMessage implements IMalisisMessageHandler<DoorFactoryMes
 			te.setCode(message.code);
 		}
 		else
-			te.createDoor();
+			te.createDoor(message.count);
 
 		return;
 	}
@@ -85,8 +85,14 @@ public class DoorFactoryMessage implements IMalisisMessageHandler<DoorFactoryMes
 	}
 
 	public static void sendCreateDoor(DoorFactoryTileEntity te)
+	{
+		sendCreateDoor(te, 1);
+	}
+
+	public static void sendCreateDoor(DoorFactoryTileEntity te, int count)
 	{
 		Packet packet = new Packet(Packet.TYPE_CREATEDOOR, te.getPos());
+		packet.count = count;
 		MalisisDoors.network.sendToServer(packet);
 	}
 
@@ -97,14 +103,15 @@ public class DoorFactoryMessage implements IMalisisMessageHandler<DoorFactoryMes
 		private BlockPos pos;
 		private int type;
 		private boolean isCreate;
-		private String movement;
-		private String sound;
+		private int movement;
+		private int sound;
 		private int openTime;
 		private int autoCloseTime;
 		private int redstoneBehavior;
 		private boolean doubleDoor;
 		private boolean proximityDetection;
 		private String code;
+		private int count = 1;
 
 		public Packet()
 		{}
@@ -117,12 +124,9 @@ public class DoorFactoryMessage implements IMalisisMessageHandler<DoorFactoryMes
 
 		public void setDoorInfos(DoorFactoryTileEntity te)
 		{
-			String movement = DoorRegistry.getId(te.getDoorMovement());
-			String sound = DoorRegistry.getId(te.getDoorSound());
-
 			this.isCreate = te.isCreate();
-			this.movement = movement;
-			this.sound = sound;
+			this.movement = DoorRegistry.getNumericId(te.getDoorMovement());
+			this.sound = DoorRegistry.getNumericId(te.getDoorSound());
 			this.openTime = te.getOpeningTime();
 			this.autoCloseTime = te.getAutoCloseTime();
 			this.redstoneBehavior = te.getRedstoneBehavior().ordinal();
@@ -139,12 +143,8 @@ public class DoorFactoryMessage implements IMalisisMessageHandler<DoorFactoryMes
 			if (type == TYPE_DOORINFOS)
 			{
 				isCreate = buf.readBoolean();
-				movement = ByteBufUtils.readUTF8String(buf);
-				if (movement.equals(""))
-					movement = null;
-				sound = ByteBufUtils.readUTF8String(buf);
-				if (sound.equals(""))
-					sound = null;
+				movement = buf.readShort();
+				sound = buf.readShort();
 				openTime = buf.readInt();
 				autoCloseTime = buf.readInt();
 				redstoneBehavior = buf.readInt();
@@ -152,6 +152,8 @@ public class DoorFactoryMessage implements IMalisisMessageHandler<DoorFactoryMes
 				proximityDetection = buf.readBoolean();
 				code = ByteBufUtils.readUTF8String(buf);
 			}
+			else
+				count = buf.readInt();
 		}
 
 		@Override
@@ -162,8 +164,8 @@ public class DoorFactoryMessage implements IMalisisMessageHandler<DoorFactoryMes
 			if (type == TYPE_DOORINFOS)
 			{
 				buf.writeBoolean(isCreate);
-				ByteBufUtils.writeUTF8String(buf, movement != null ? movement : "");
-				ByteBufUtils.writeUTF8String(buf, sound != null ? sound : "");
+				buf.writeShort(movement);
+				buf.writeShort(sound);
 				buf.writeInt(openTime);
 				buf.writeInt(autoCloseTime);
 				buf.writeInt(redstoneBehavior);
@@ -171,6 +173,8 @@ public class DoorFactoryMessage implements IMalisisMessageHandler<DoorFactoryMes
 				buf.writeBoolean(proximityDetection);
 				ByteBufUtils.writeUTF8String(buf, code != null ? code : "");
 			}
+			else
+				buf.writeInt(count);
 		}
 
 	}
@@ -0,0 +1,211 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Ordinastie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package net.malisis.doors.network;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.netty.buffer.ByteBuf;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.malisis.core.network.IMalisisMessageHandler;
+import net.malisis.core.network.MalisisMessage;
+import net.malisis.core.util.TileEntityUtils;
+import net.malisis.doors.DoorState;
+import net.malisis.doors.MalisisDoors;
+import net.malisis.doors.group.DoorGroup;
+import net.malisis.doors.metrics.DoorMetrics;
+import net.malisis.doors.metrics.DoorMetrics.Probe;
+import net.malisis.doors.metrics.DoorStatistics;
+import net.malisis.doors.tileentity.DoorTileEntity;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.server.management.PlayerChunkMap;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
+import net.minecraftforge.fml.common.network.ByteBufUtils;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
+import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
+import net.minecraftforge.fml.relauncher.Side;
+
+/**
+ * Message sent to the clients when the doors of a {@link DoorGroup} change state together.<br>
+ * Replaces one {@link DoorStateMessage} per door : positions are written relative to the first door, followed by the state and elapsed
+ * time of each door, which usually amounts to a few bytes per door. Doors whose descriptor needs to be sent still use
+ * {@link DoorStateMessage}.
+ *
+ * @author Ordinastie
+ *
+ */
+@MalisisMessage
+public class DoorGroupMessage implements IMalisisMessageHandler<DoorGroupMessage.Packet, IMessage>
+{
+	public DoorGroupMessage()
+	{
+		MalisisDoors.network.registerMessage(this, DoorGroupMessage.Packet.class, Side.CLIENT);
+	}
+
+	@Override
+	public void process(Packet message, MessageContext ctx)
+	{
+		World world = IMalisisMessageHandler.getWorld(ctx);
+		for (int i = 0; i < message.positions.length; i++)
+		{
+			DoorTileEntity te = TileEntityUtils.getTileEntity(DoorTileEntity.class, world, message.positions[i]);
+			if (te == null)
+				continue;
+
+			te.setDoorState(DoorState.values()[message.states[i]]);
+			if (te.isMoving())
+				te.getTimer().setRelativeStart(-message.elapsed[i]);
+		}
+	}
+
+	/**
+	 * Sends the state of the doors to the players watching any of them.
+	 *
+	 * @param world the world
+	 * @param doors the doors
+	 */
+	public static void send(World world, List<DoorTileEntity> doors)
+	{
+		//no network outside of a game instance, like in the headless simulation
+		if (MalisisDoors.network == null)
+			return;
+
+		List<DoorTileEntity> list = new ArrayList<>(doors.size());
+		for (DoorTileEntity te : doors)
+		{
+			if (te.isDescriptorSynced())
+				list.add(te);
+			else
+				te.sync();
+		}
+
+		if (list.size() <= 1)
+		{
+			list.forEach(DoorTileEntity::sync);
+			return;
+		}
+
+		long start = DoorMetrics.start(list.get(0));
+		Packet packet = new Packet(list);
+		LongSet chunks = new LongOpenHashSet();
+		for (DoorTileEntity te : list)
+			chunks.add(ChunkPos.asLong(te.getPos().getX() >> 4, te.getPos().getZ() >> 4));
+
+		PlayerChunkMap chunkMap = ((WorldServer) world).getPlayerChunkMap();
+		for (EntityPlayer player : world.playerEntities)
+		{
+			for (long chunk : chunks)
+			{
+				if (chunkMap.isPlayerWatchingChunk((EntityPlayerMP) player, (int) chunk, (int) (chunk >> 32)))
+				{
+					MalisisDoors.network.sendTo(packet, (EntityPlayerMP) player);
+					break;
+				}
+			}
+		}
+		DoorMetrics.record(Probe.PACKET, list.get(0), start);
+	}
+
+	public static class Packet implements IMessage
+	{
+		private BlockPos[] positions;
+		private int[] states;
+		private int[] elapsed;
+
+		public Packet()
+		{}
+
+		public Packet(List<DoorTileEntity> doors)
+		{
+			positions = new BlockPos[doors.size()];
+			states = new int[doors.size()];
+			elapsed = new int[doors.size()];
+			for (int i = 0; i < positions.length; i++)
+			{
+				DoorTileEntity te = doors.get(i);
+				positions[i] = te.getPos();
+				states[i] = te.getState().ordinal();
+				elapsed[i] = te.isMoving() ? (int) te.getTimer().elapsedTime() : 0;
+			}
+		}
+
+		@Override
+		public void fromBytes(ByteBuf buf)
+		{
+			int count = ByteBufUtils.readVarInt(buf, 5);
+			positions = new BlockPos[count];
+			states = new int[count];
+			elapsed = new int[count];
+
+			BlockPos origin = BlockPos.fromLong(buf.readLong());
+			for (int i = 0; i < count; i++)
+			{
+				positions[i] = i == 0 ? origin : origin.add(readSigned(buf), readSigned(buf), readSigned(buf));
+				states[i] = buf.readByte();
+				elapsed[i] = ByteBufUtils.readVarInt(buf, 5);
+			}
+		}
+
+		@Override
+		public void toBytes(ByteBuf buf)
+		{
+			int start = buf.writerIndex();
+			ByteBufUtils.writeVarInt(buf, positions.length, 5);
+
+			BlockPos origin = positions[0];
+			buf.writeLong(origin.toLong());
+			for (int i = 0; i < positions.length; i++)
+			{
+				if (i != 0)
+				{
+					writeSigned(buf, positions[i].getX() - origin.getX());
+					writeSigned(buf, positions[i].getY() - origin.getY());
+					writeSigned(buf, positions[i].getZ() - origin.getZ());
+				}
+				buf.writeByte(states[i]);
+				ByteBufUtils.writeVarInt(buf, elapsed[i], 5);
+			}
+			DoorStatistics.packetSent(buf.writerIndex() - start);
+		}
+
+		//zigzag encoding so that small negative offsets stay on a single byte
+		private static void writeSigned(ByteBuf buf, int value)
+		{
+			ByteBufUtils.writeVarInt(buf, (value << 1) ^ (value >> 31), 5);
+		}
+
+		private static int readSigned(ByteBuf buf)
+		{
+			int value = ByteBufUtils.readVarInt(buf, 5);
+			return (value >>> 1) ^ -(value & 1);
+		}
+	}
+}
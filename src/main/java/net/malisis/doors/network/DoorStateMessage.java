@@ -0,0 +1,152 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Ordinastie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.malisis.doors.network;
+
+import io.netty.buffer.ByteBuf;
+import net.malisis.core.network.IMalisisMessageHandler;
+import net.malisis.core.network.MalisisMessage;
+import net.malisis.core.util.TileEntityUtils;
+import net.malisis.doors.DoorDescriptor;
+import net.malisis.doors.DoorState;
+import net.malisis.doors.MalisisDoors;
+import net.malisis.doors.metrics.DoorMetrics;
+import net.malisis.doors.metrics.DoorMetrics.Probe;
+import net.malisis.doors.metrics.DoorStatistics;
+import net.malisis.doors.tileentity.DoorTileEntity;
+import net.malisis.doors.tileentity.SaloonDoorTileEntity;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraftforge.fml.common.network.ByteBufUtils;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
+import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
+import net.minecraftforge.fml.relauncher.Side;
+
+/**
+ * Message sent to the clients when the state of a {@link DoorTileEntity} changes.<br>
+ * Only carries the state, the centered flag, the opening direction of saloon doors and the elapsed time of the animation. The descriptor is
+ * only added when it changed since the last time it was sent.
+ *
+ * @author Ordinastie
+ *
+ */
+@MalisisMessage
+public class DoorStateMessage implements IMalisisMessageHandler<DoorStateMessage.Packet, IMessage>
+{
+	public DoorStateMessage()
+	{
+		MalisisDoors.network.registerMessage(this, DoorStateMessage.Packet.class, Side.CLIENT);
+	}
+
+	@Override
+	public void process(Packet message, MessageContext ctx)
+	{
+		World world = IMalisisMessageHandler.getWorld(ctx);
+		DoorTileEntity te = TileEntityUtils.getTileEntity(DoorTileEntity.class, world, message.pos);
+		if (te == null)
+			return;
+
+		if (message.descriptor != null)
+		{
+			te.setDescriptor(DoorDescriptor.fromNBT(message.descriptor));
+			te.updateRender();
+		}
+		te.setCentered(message.centered);
+		if (te instanceof SaloonDoorTileEntity)
+			((SaloonDoorTileEntity) te).setBackward(message.backward);
+		te.setDoorState(DoorState.values()[message.state]);
+		if (te.isMoving())
+			te.getTimer().setRelativeStart(-message.elapsed);
+	}
+
+	public static void send(DoorTileEntity te, boolean withDescriptor)
+	{
+		//no network outside of a game instance, like in the headless simulation
+		if (MalisisDoors.network == null)
+			return;
+
+		long start = DoorMetrics.start(te);
+		Packet packet = new Packet(te, withDescriptor);
+		MalisisDoors.network.sendToPlayersWatchingChunk(packet, te.getWorld().getChunkFromBlockCoords(te.getPos()));
+		DoorMetrics.record(Probe.PACKET, te, start);
+	}
+
+	public static class Packet implements IMessage
+	{
+		private static final int CENTERED = 1;
+		private static final int DESCRIPTOR = 2;
+		private static final int BACKWARD = 4;
+
+		private BlockPos pos;
+		private int state;
+		private boolean centered;
+		private boolean backward;
+		private int elapsed;
+		private NBTTagCompound descriptor;
+
+		public Packet()
+		{}
+
+		public Packet(DoorTileEntity te, boolean withDescriptor)
+		{
+			pos = te.getPos();
+			state = te.getState().ordinal();
+			centered = te.isCentered();
+			backward = te instanceof SaloonDoorTileEntity && ((SaloonDoorTileEntity) te).isBackward();
+			elapsed = te.isMoving() ? (int) te.getTimer().elapsedTime() : 0;
+			if (withDescriptor)
+			{
+				descriptor = new NBTTagCompound();
+				te.getDescriptor().writeNBT(descriptor);
+			}
+		}
+
+		@Override
+		public void fromBytes(ByteBuf buf)
+		{
+			pos = BlockPos.fromLong(buf.readLong());
+			state = buf.readByte();
+			int flags = buf.readByte();
+			centered = (flags & CENTERED) != 0;
+			backward = (flags & BACKWARD) != 0;
+			elapsed = ByteBufUtils.readVarInt(buf, 5);
+			if ((flags & DESCRIPTOR) != 0)
+				descriptor = ByteBufUtils.readTag(buf);
+		}
+
+		@Override
+		public void toBytes(ByteBuf buf)
+		{
+			int start = buf.writerIndex();
+			buf.writeLong(pos.toLong());
+			buf.writeByte(state);
+			buf.writeByte((centered ? CENTERED : 0) | (descriptor != null ? DESCRIPTOR : 0) | (backward ? BACKWARD : 0));
+			ByteBufUtils.writeVarInt(buf, elapsed, 5);
+			if (descriptor != null)
+				ByteBufUtils.writeTag(buf, descriptor);
+			DoorStatistics.packetSent(buf.writerIndex() - start);
+		}
+	}
+}
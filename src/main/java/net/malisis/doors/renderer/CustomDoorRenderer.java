@@ -26,6 +26,7 @@ package net.malisis.doors.renderer;
 
 import org.apache.commons.lang3.tuple.Triple;
 
+import net.malisis.core.renderer.RenderType;
 import net.malisis.core.renderer.element.Shape;
 import net.malisis.core.renderer.element.face.BottomFace;
 import net.malisis.core.renderer.element.face.NorthFace;
@@ -38,6 +39,7 @@ import net.malisis.doors.block.CustomDoor;
 import net.malisis.doors.block.Door;
 import net.malisis.doors.item.CustomDoorItem;
 import net.malisis.doors.tileentity.CustomDoorTileEntity;
+import net.malisis.doors.tileentity.DoorTileEntity;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.init.Blocks;
 import net.minecraft.util.EnumFacing;
@@ -60,6 +62,18 @@ public class CustomDoorRenderer extends DoorRenderer
 	{
 		super(false);
 		registerFor(CustomDoorTileEntity.class);
+		chunkRenderers = ThreadLocal.withInitial(this::createChunkRenderer);
+	}
+
+	private CustomDoorRenderer(boolean noRegister)
+	{
+		super(noRegister);
+	}
+
+	@Override
+	protected DoorRenderer createChunkRenderer()
+	{
+		return new CustomDoorRenderer(true);
 	}
 
 	@Override
@@ -132,6 +146,20 @@ public class CustomDoorRenderer extends DoorRenderer
 		ensureBlock(CustomDoor.class);
 	}
 
+	@Override
+	public void render()
+	{
+		//the chunk is rebuilt when a neighbor changes, refresh the cached colors with it
+		if (renderType == RenderType.BLOCK && !Door.isTop(blockState))
+		{
+			DoorTileEntity te = Door.getDoor(world, pos);
+			if (te instanceof CustomDoorTileEntity)
+				((CustomDoorTileEntity) te).invalidateRenderCache();
+		}
+
+		super.render();
+	}
+
 	@Override
 	public boolean isGui3d()
 	{
@@ -147,7 +175,7 @@ public class CustomDoorRenderer extends DoorRenderer
 		bottom = triple.getRight();
 		direction = EnumFacing.SOUTH;
 
-		setupParams();
+		setupParams(createCache());
 	}
 
 	@Override
@@ -160,25 +188,38 @@ public class CustomDoorRenderer extends DoorRenderer
 		top = tileEntity.getTop();
 		bottom = tileEntity.getBottom();
 
-		setupParams();
+		RenderCache cache = (RenderCache) tileEntity.getRenderCache();
+		if (cache == null)
+		{
+			cache = createCache();
+			tileEntity.setRenderCache(cache);
+		}
+
+		setupParams(cache);
 	}
 
-	private void setupParams()
+	private RenderCache createCache()
+	{
+		return new RenderCache(	new Icon[] { Icon.from(frame), Icon.from(top), Icon.from(bottom) },
+								new int[] { getColor(frame), getColor(top), getColor(bottom) });
+	}
+
+	private void setupParams(RenderCache cache)
 	{
 		//reset alpha before so it doesn't bleed to the shapes
 		rp.alpha.reset();
 
-		rp.icon.set(Icon.from(frame));
-		rp.colorMultiplier.set(getColor(frame));
+		rp.icon.set(cache.icons[0]);
+		rp.colorMultiplier.set(cache.colors[0]);
 		model.getShape("top").setParameters("frame", rp, true);
 		model.getShape("bottom").setParameters("frame", rp, true);
 
-		rp.icon.set(Icon.from(top));
-		rp.colorMultiplier.set(getColor(top));
+		rp.icon.set(cache.icons[1]);
+		rp.colorMultiplier.set(cache.colors[1]);
 		model.getShape("top").setParameters("material", rp, true);
 
-		rp.icon.set(Icon.from(bottom));
-		rp.colorMultiplier.set(getColor(bottom));
+		rp.icon.set(cache.icons[2]);
+		rp.colorMultiplier.set(cache.colors[2]);
 		model.getShape("bottom").setParameters("material", rp, true);
 
 		//reset the values to default as rp is used for the whole shape
@@ -192,4 +233,20 @@ public class CustomDoorRenderer extends DoorRenderer
 			return 0xFFFFFF;
 		return colorMultiplier(world, pos, state);
 	}
+
+	/**
+	 * Icons and colors resolved for the frame, top and bottom materials of a {@link CustomDoorTileEntity}.<br>
+	 * Stored in the tile entity until its materials or neighbors change.
+	 */
+	private static class RenderCache
+	{
+		private final Icon[] icons;
+		private final int[] colors;
+
+		public RenderCache(Icon[] icons, int[] colors)
+		{
+			this.icons = icons;
+			this.colors = colors;
+		}
+	}
 }
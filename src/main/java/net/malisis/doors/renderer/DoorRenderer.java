@@ -52,9 +52,13 @@ import net.malisis.doors.iconprovider.DoorIconProvider;
 import net.malisis.doors.item.DoorItem;
 import net.malisis.doors.tileentity.DoorTileEntity;
 import net.minecraft.block.BlockDoor;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.client.renderer.BufferBuilder;
 import net.minecraft.client.renderer.block.model.ItemCameraTransforms.TransformType;
 import net.minecraft.item.Item;
 import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IBlockAccess;
 
 public class DoorRenderer extends MalisisRenderer<DoorTileEntity>
 {
@@ -62,10 +66,14 @@ public class DoorRenderer extends MalisisRenderer<DoorTileEntity>
 	protected boolean opened;
 	protected boolean hingeLeft;
 	protected boolean topBlock;
+	/** Whether the doors at rest are rendered with the chunk by this renderer. */
+	protected boolean staticRendering = true;
 
 	protected MalisisModel model;
 	protected RenderParameters rp;
 	protected AnimationRenderer ar = new AnimationRenderer();
+	/** Renderers drawing the doors at rest, one per chunk builder thread. Null for the renderers used by those threads. */
+	protected ThreadLocal<DoorRenderer> chunkRenderers;
 
 	protected Matrix4f gui = new TransformBuilder().translate(.15F, -0.25F, 0).rotate(30, 45, 0).scale(.46F).get();
 	protected Matrix4f thirdPerson = new TransformBuilder().translate(.1F, .3F, .3F).rotate(90, 90, 135).scale(0.3F).get();
@@ -76,6 +84,7 @@ public class DoorRenderer extends MalisisRenderer<DoorTileEntity>
 	{
 		registerFor(DoorTileEntity.class);
 		setBatched();
+		chunkRenderers = ThreadLocal.withInitial(this::createChunkRenderer);
 	}
 
 	public DoorRenderer(boolean noRegister)
@@ -83,6 +92,16 @@ public class DoorRenderer extends MalisisRenderer<DoorTileEntity>
 		setBatched();
 	}
 
+	/**
+	 * Creates the renderer drawing the doors at rest for a chunk builder thread.
+	 *
+	 * @return the renderer
+	 */
+	protected DoorRenderer createChunkRenderer()
+	{
+		return new DoorRenderer(true);
+	}
+
 	@Override
 	protected void initialize()
 	{
@@ -144,16 +163,54 @@ public class DoorRenderer extends MalisisRenderer<DoorTileEntity>
 		}
 	}
 
+	/**
+	 * Checks whether the door is at rest, and so rendered with the chunk instead of by the tile entity renderer.
+	 *
+	 * @param te the door
+	 * @return true, if the door is rendered with the chunk
+	 */
+	public static boolean isStatic(DoorTileEntity te)
+	{
+		return MalisisDoorsSettings.staticDoorRendering.get() && te != null && !te.isMoving();
+	}
+
+	@Override
+	public boolean renderBlock(BufferBuilder buffer, IBlockAccess world, BlockPos pos, IBlockState state)
+	{
+		//chunks are rebuilt on their own threads, which must not share the model and parameters of the tile entity pass
+		if (chunkRenderers != null)
+			return chunkRenderers.get().renderBlock(buffer, world, pos, state);
+		return super.renderBlock(buffer, world, pos, state);
+	}
+
 	@Override
 	public void render()
 	{
 		if (renderType == RenderType.BLOCK)
+		{
+			//both halves are drawn from the bottom block
+			if (!staticRendering || Door.isTop(blockState))
+				return;
+
+			tileEntity = Door.getDoor(world, pos);
+			if (!isStatic(tileEntity))
+				return;
+
+			rp.icon.set(null);
+			rp.brightness.reset();
+			setTileEntity();
+			setup();
+			renderTileEntity();
 			return;
+		}
 
 		rp.icon.set(null);
 		rp.brightness.reset();
 		if (renderType == RenderType.TILE_ENTITY)
 		{
+			if (staticRendering && isStatic(tileEntity))
+				return;
+
 			setTileEntity();
 			setup();
 			renderTileEntity();
@@ -35,12 +35,17 @@ import net.malisis.core.renderer.animation.AnimationRenderer;
 import net.malisis.core.renderer.element.Shape;
 import net.malisis.core.renderer.element.shape.Cube;
 import net.malisis.core.renderer.model.MalisisModel;
+import net.malisis.core.util.TileEntityUtils;
 import net.malisis.core.util.TransformBuilder;
 import net.malisis.doors.block.FenceGate;
 import net.malisis.doors.tileentity.FenceGateTileEntity;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.client.renderer.BufferBuilder;
 import net.minecraft.client.renderer.block.model.ItemCameraTransforms.TransformType;
 import net.minecraft.item.Item;
 import net.minecraft.util.EnumFacing.Axis;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IBlockAccess;
 
 /**
  * @author Ordinastie
@@ -51,6 +56,8 @@ public class FenceGateRenderer extends MalisisRenderer<FenceGateTileEntity>
 	private MalisisModel model;
 	private RenderParameters rp;
 	protected AnimationRenderer ar = new AnimationRenderer();
+	/** Renderers drawing the fence gates at rest, one per chunk builder thread. Null for the renderers used by those threads. */
+	private ThreadLocal<FenceGateRenderer> chunkRenderers;
 
 	//    "display": {
 	//        "thirdperson": {
@@ -70,6 +77,13 @@ public class FenceGateRenderer extends MalisisRenderer<FenceGateTileEntity>
 	{
 		registerFor(FenceGateTileEntity.class);
 		ensureBlock(FenceGate.class);
+		setBatched();
+		chunkRenderers = ThreadLocal.withInitial(() -> new FenceGateRenderer(true));
+	}
+
+	private FenceGateRenderer(boolean noRegister)
+	{
+		ensureBlock(FenceGate.class);
 	}
 
 	@Override
@@ -133,15 +147,30 @@ public class FenceGateRenderer extends MalisisRenderer<FenceGateTileEntity>
 		}
 	}
 
+	@Override
+	public boolean renderBlock(BufferBuilder buffer, IBlockAccess world, BlockPos pos, IBlockState state)
+	{
+		//chunks are rebuilt on their own threads, which must not share the model and parameters of the tile entity pass
+		if (chunkRenderers != null)
+			return chunkRenderers.get().renderBlock(buffer, world, pos, state);
+		return super.renderBlock(buffer, world, pos, state);
+	}
+
 	@Override
 	public void render()
 	{
 		if (renderType == RenderType.BLOCK)
+		{
+			tileEntity = TileEntityUtils.getTileEntity(FenceGateTileEntity.class, world, pos);
+			if (!DoorRenderer.isStatic(tileEntity))
+				return;
+		}
+		else if (renderType == RenderType.TILE_ENTITY && DoorRenderer.isStatic(tileEntity))
 			return;
 
 		rp.icon.reset();
 		rp.colorMultiplier.reset();
-		if (renderType == RenderType.TILE_ENTITY)
+		if (renderType == RenderType.BLOCK || renderType == RenderType.TILE_ENTITY)
 		{
 			setup();
 			renderTileEntity();
@@ -24,143 +24,149 @@
 
 package net.malisis.doors.renderer;
 
-import net.malisis.core.renderer.MalisisRenderer;
-import net.malisis.core.renderer.RenderParameters;
-import net.malisis.core.renderer.animation.AnimationRenderer;
-import net.malisis.core.renderer.element.Shape;
-import net.malisis.core.renderer.element.Vertex;
-import net.malisis.core.renderer.element.face.NorthFace;
+import java.util.Map;
+import java.util.WeakHashMap;
+
 import net.malisis.doors.MalisisDoors;
 import net.malisis.doors.tileentity.ForcefieldTileEntity;
-import net.minecraft.util.EnumFacing;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.BufferBuilder;
+import net.minecraft.client.renderer.texture.TextureAtlasSprite;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.math.AxisAlignedBB;
-
-import org.lwjgl.opengl.GL11;
+import net.minecraft.util.math.BlockPos;
+import net.minecraftforge.client.event.TextureStitchEvent;
+import net.minecraftforge.client.model.animation.FastTESR;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.fml.client.registry.ClientRegistry;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 
 /**
+ * Renderer for the forcefields.<br>
+ * The animation frames are packed into a single texture strip on the block atlas, animated by the atlas itself. The geometry of each
+ * forcefield is built once from its multiblock and cached. Forcefields are fast renderers, so they are all drawn in the translucent tile
+ * entity batch, with the GL state set up once for the batch.
+ *
  * @author Ordinastie
  *
  */
-public class ForcefieldRenderer extends MalisisRenderer<ForcefieldTileEntity>
+public class ForcefieldRenderer extends FastTESR<ForcefieldTileEntity>
 {
-	protected static ResourceLocation[] rl;
-	protected ForcefieldTileEntity tileEntity;
-	protected AxisAlignedBB aabb;
-	protected EnumFacing direction;
-	protected double scaleX, scaleY;
+	/** Size of the blocks covered by one repetition of the texture. */
+	private static final int TILE_SIZE = 3;
+	/** Full brightness, packed for the lightmap coordinates. */
+	private static final int BRIGHTNESS = 240;
 
-	protected Shape shape;
-	protected RenderParameters rp;
-	protected AnimationRenderer ar = new AnimationRenderer();
+	protected final ResourceLocation texture = new ResourceLocation(MalisisDoors.modid, "blocks/forcefield_field");
+	protected TextureAtlasSprite sprite;
+	protected final Map<ForcefieldTileEntity, Geometry> geometries = new WeakHashMap<>();
 
 	public ForcefieldRenderer()
 	{
-		registerFor(ForcefieldTileEntity.class);
+		ClientRegistry.bindTileEntitySpecialRenderer(ForcefieldTileEntity.class, this);
+		MinecraftForge.EVENT_BUS.register(this);
 	}
 
-	@Override
-	protected void initialize()
+	@SubscribeEvent
+	public void onTextureStitch(TextureStitchEvent.Pre event)
 	{
-		rl = new ResourceLocation[50];
-		for (int i = 0; i < 50; i++)
-			rl[i] = new ResourceLocation(String.format(MalisisDoors.modid + ":textures/blocks/forcefield/forcefield%02d.png", i));
-
-		shape = new Shape(new NorthFace());
-
-		rp = new RenderParameters();
-		rp.interpolateUV.set(false);
-		rp.useBlockBounds.set(false);
-		rp.calculateAOColor.set(false);
-		rp.setBrightness(Vertex.BRIGHTNESS_MAX);
-		rp.useEnvironmentBrightness.set(false);
-		rp.calculateBrightness.set(false);
-		rp.applyTexture.set(false);
-		rp.alpha.set(50);
-		//rp.colorMultiplier.set(0xAAAAFF);
-
+		if (event.getMap() == Minecraft.getMinecraft().getTextureMapBlocks())
+			sprite = event.getMap().registerSprite(texture);
 	}
 
-	private void setDirection()
+	@Override
+	public void renderTileEntityFast(ForcefieldTileEntity te, double x, double y, double z, float partialTicks, int destroyStage, float partial, BufferBuilder buffer)
 	{
-		if (aabb.maxY - aabb.minY == 0)
-			direction = EnumFacing.UP;
-		else if (aabb.maxX - aabb.minX == 0)
-			direction = EnumFacing.EAST;
-		else
-			direction = EnumFacing.NORTH;
+		if (sprite == null || te.isOpened() || te.getMultiBlock() == null)
+			return;
+
+		//vertices are in world coordinates, the batch expects them relative to the camera
+		double dx = x - te.getPos().getX();
+		double dy = y - te.getPos().getY();
+		double dz = z - te.getPos().getZ();
+		double[] vertices = getGeometry(te).vertices;
+		for (int i = 0; i < vertices.length; i += 5)
+			buffer.pos(vertices[i] + dx, vertices[i + 1] + dy, vertices[i + 2] + dz)
+					.color(255, 255, 255, 255)
+					.tex(sprite.getInterpolatedU(vertices[i + 3] * 16), sprite.getInterpolatedV(vertices[i + 4] * 16))
+					.lightmap(BRIGHTNESS, BRIGHTNESS)
+					.endVertex();
 	}
 
-	private void setScale()
+	private Geometry getGeometry(ForcefieldTileEntity te)
 	{
-		scaleX = 1;
-		scaleY = 1;
-		if (direction == EnumFacing.UP)
+		AxisAlignedBB aabb = te.getMultiBlock().getBoundingBox();
+		Geometry geometry = geometries.get(te);
+		if (geometry == null || !geometry.matches(te.getPos(), aabb))
 		{
-			scaleX = aabb.maxX - aabb.minX;
-			scaleY = aabb.maxZ - aabb.minZ;
-		}
-		else
-		{
-			scaleY = aabb.maxY - aabb.minY;
-			if (direction == EnumFacing.EAST)
-				scaleX = aabb.maxZ - aabb.minZ;
-			else if (direction == EnumFacing.NORTH)
-				scaleX = aabb.maxX - aabb.minX;
+			geometry = new Geometry(te.getPos(), aabb);
+			geometries.put(te, geometry);
 		}
+		return geometry;
 	}
 
-	@Override
-	public void render()
+	/**
+	 * Vertices of a forcefield, in world coordinates, with the UVs relative to the sprite.<br>
+	 * The forcefield is a plane in the middle of its one block thick side, split in tiles so that the texture repeats every
+	 * {@value #TILE_SIZE} blocks.
+	 */
+	protected static class Geometry
 	{
-		tileEntity = super.tileEntity;
-		if (tileEntity == null || tileEntity.isOpened())
-			return;
-
-		aabb = tileEntity.getRenderBoundingBox().offset(-pos.getX(), -pos.getY(), -pos.getZ());
-		setDirection();
-		setScale();
-
-		enableBlending();
-
-		shape = new Shape(new NorthFace());
-		if (direction == EnumFacing.UP)
-			shape.rotate(90, 1, 0, 0);
-		else if (direction == EnumFacing.EAST)
-			shape.rotate(90, 0, 1, 0);
+		private final BlockPos pos;
+		private final AxisAlignedBB aabb;
+		private final double[] vertices;
 
-		shape.translate(0, 0, 0.5F);
-		shape.scale((float) scaleX, (float) scaleY, 1, direction == EnumFacing.EAST ? 0.5F : -0.5F, -0.5F, 0.5F);
-
-		setTextureMatrix();
-		GL11.glBlendFunc(GL11.GL_ONE, GL11.GL_ONE);
-		GL11.glDisable(GL11.GL_CULL_FACE);
-
-		drawShape(shape, rp);
-		next();
-
-		GL11.glEnable(GL11.GL_CULL_FACE);
-		GL11.glMatrixMode(GL11.GL_TEXTURE);
-		GL11.glLoadIdentity();
-		GL11.glMatrixMode(GL11.GL_MODELVIEW);
-		GL11.glDisable(GL11.GL_BLEND);
-	}
-
-	private void setTextureMatrix()
-	{
-		long elapsed = ar.getElapsedTime() / 50;
-		int n = (int) (elapsed % 50);
-
-		bindTexture(rl[n]);
-		GL11.glMatrixMode(GL11.GL_TEXTURE);
-		GL11.glLoadIdentity();
-
-		if (direction == EnumFacing.UP && aabb.maxZ - aabb.minZ > aabb.maxX - aabb.minX)
-			GL11.glRotatef(90, 0, 0, 1);
+		public Geometry(BlockPos pos, AxisAlignedBB aabb)
+		{
+			this.pos = pos;
+			this.aabb = aabb;
+
+			AxisAlignedBB bb = aabb.offset(pos);
+			//axis of the plane: 0 = horizontal, 1 = along Z, 2 = along X
+			int axis = bb.maxY - bb.minY == 1 ? 0 : bb.maxX - bb.minX == 1 ? 1 : 2;
+			double u0 = axis == 1 ? bb.minZ : bb.minX;
+			double u1 = axis == 1 ? bb.maxZ : bb.maxX;
+			double v0 = axis == 0 ? bb.minZ : bb.minY;
+			double v1 = axis == 0 ? bb.maxZ : bb.maxY;
+			double depth = (axis == 0 ? bb.minY : axis == 1 ? bb.minX : bb.minZ) + 0.5F;
+
+			int tilesU = (int) Math.ceil((u1 - u0) / TILE_SIZE);
+			int tilesV = (int) Math.ceil((v1 - v0) / TILE_SIZE);
+			vertices = new double[tilesU * tilesV * 4 * 5];
+
+			int index = 0;
+			for (int tu = 0; tu < tilesU; tu++)
+			{
+				double a0 = u0 + tu * TILE_SIZE;
+				double a1 = Math.min(a0 + TILE_SIZE, u1);
+				for (int tv = 0; tv < tilesV; tv++)
+				{
+					double b0 = v0 + tv * TILE_SIZE;
+					double b1 = Math.min(b0 + TILE_SIZE, v1);
+					double tu1 = (a1 - a0) / TILE_SIZE;
+					double tv1 = (b1 - b0) / TILE_SIZE;
+
+					index = vertex(index, axis, a0, b0, depth, 0, 0);
+					index = vertex(index, axis, a1, b0, depth, tu1, 0);
+					index = vertex(index, axis, a1, b1, depth, tu1, tv1);
+					index = vertex(index, axis, a0, b1, depth, 0, tv1);
+				}
+			}
+		}
 
-		//GL11.glTranslatef(fx, fy, 0);
-		GL11.glScaled(scaleX / 3, scaleY / 3, 1);
+		private int vertex(int index, int axis, double a, double b, double depth, double u, double v)
+		{
+			vertices[index++] = axis == 1 ? depth : a;
+			vertices[index++] = axis == 0 ? depth : b;
+			vertices[index++] = axis == 0 ? b : axis == 1 ? a : depth;
+			vertices[index++] = u;
+			vertices[index++] = v;
+			return index;
+		}
 
-		GL11.glMatrixMode(GL11.GL_MODELVIEW);
+		public boolean matches(BlockPos pos, AxisAlignedBB aabb)
+		{
+			return this.pos.equals(pos) && this.aabb.equals(aabb);
+		}
 	}
 }
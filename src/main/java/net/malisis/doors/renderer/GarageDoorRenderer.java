@@ -24,7 +24,7 @@
 
 package net.malisis.doors.renderer;
 
-import java.util.Set;
+import java.util.List;
 
 import javax.vecmath.Matrix4f;
 
@@ -119,7 +119,7 @@ public class GarageDoorRenderer extends MalisisRenderer<GarageDoorTileEntity>
 		ar.setStartTime(tileEntity.getTimer().getStart());
 
 		//create door list from childs + top
-		Set<GarageDoorTileEntity> doors = tileEntity.getDoors();
+		List<GarageDoorTileEntity> doors = tileEntity.getDoors();
 
 		for (GarageDoorTileEntity te : doors)
 		{
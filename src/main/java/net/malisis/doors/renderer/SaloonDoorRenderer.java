@@ -42,6 +42,8 @@ public class SaloonDoorRenderer extends DoorRenderer
 	{
 		super(false);
 		registerFor(SaloonDoorTileEntity.class);
+		//saloon doors swing when walked through without changing state
+		staticRendering = false;
 	}
 
 	@Override
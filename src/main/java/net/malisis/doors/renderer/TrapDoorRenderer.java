@@ -34,14 +34,19 @@ import net.malisis.core.renderer.animation.AnimationRenderer;
 import net.malisis.core.renderer.element.Shape;
 import net.malisis.core.renderer.element.shape.Cube;
 import net.malisis.core.renderer.model.MalisisModel;
+import net.malisis.core.util.TileEntityUtils;
 import net.malisis.core.util.TransformBuilder;
 import net.malisis.doors.MalisisDoors;
 import net.malisis.doors.block.Door;
 import net.malisis.doors.block.TrapDoor;
 import net.malisis.doors.tileentity.TrapDoorTileEntity;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.client.renderer.BufferBuilder;
 import net.minecraft.client.renderer.block.model.ItemCameraTransforms.TransformType;
 import net.minecraft.item.Item;
 import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IBlockAccess;
 
 /**
  * @author Ordinastie
@@ -55,6 +60,8 @@ public class TrapDoorRenderer extends MalisisRenderer<TrapDoorTileEntity>
 	private MalisisModel slidingTrapDoorModel;
 	private RenderParameters rp;
 	private AnimationRenderer ar = new AnimationRenderer();
+	/** Renderers drawing the trap doors at rest, one per chunk builder thread. Null for the renderers used by those threads. */
+	private ThreadLocal<TrapDoorRenderer> chunkRenderers;
 
 	private Matrix4f firstPersonRightHand = new TransformBuilder().translate(0, 0.25F, 0).rotate(0, 45, 0).scale(0.4F).get();
 	private Matrix4f firstPersonLeftHand = new TransformBuilder().translate(0, 0.25F, 0).rotate(0, 225, 0).scale(0.4F).get();
@@ -66,6 +73,13 @@ public class TrapDoorRenderer extends MalisisRenderer<TrapDoorTileEntity>
 	{
 		registerFor(TrapDoorTileEntity.class);
 		ensureBlock(TrapDoor.class);
+		setBatched();
+		chunkRenderers = ThreadLocal.withInitial(() -> new TrapDoorRenderer(true));
+	}
+
+	private TrapDoorRenderer(boolean noRegister)
+	{
+		ensureBlock(TrapDoor.class);
 	}
 
 	@Override
@@ -146,16 +160,31 @@ public class TrapDoorRenderer extends MalisisRenderer<TrapDoorTileEntity>
 		}
 	}
 
+	@Override
+	public boolean renderBlock(BufferBuilder buffer, IBlockAccess world, BlockPos pos, IBlockState state)
+	{
+		//chunks are rebuilt on their own threads, which must not share the model and parameters of the tile entity pass
+		if (chunkRenderers != null)
+			return chunkRenderers.get().renderBlock(buffer, world, pos, state);
+		return super.renderBlock(buffer, world, pos, state);
+	}
+
 	@Override
 	public void render()
 	{
 		if (renderType == RenderType.BLOCK)
+		{
+			tileEntity = TileEntityUtils.getTileEntity(TrapDoorTileEntity.class, world, pos);
+			if (!DoorRenderer.isStatic(tileEntity))
+				return;
+		}
+		else if (renderType == RenderType.TILE_ENTITY && DoorRenderer.isStatic(tileEntity))
 			return;
 
 		MalisisModel model = block == MalisisDoors.Blocks.slidingTrapDoor ? slidingTrapDoorModel : trapDoorModel;
 		model.resetState();
 
-		if (renderType == RenderType.TILE_ENTITY)
+		if (renderType == RenderType.BLOCK || renderType == RenderType.TILE_ENTITY)
 		{
 			setup(model);
 			renderTileEntity(model);
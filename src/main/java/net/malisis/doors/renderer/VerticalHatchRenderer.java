@@ -43,8 +43,22 @@ public class VerticalHatchRenderer extends DoorRenderer
 
 	public VerticalHatchRenderer()
 	{
-		super(false);
+		this(false);
 		registerFor(VerticalHatchTileEntity.class);
+		chunkRenderers = ThreadLocal.withInitial(this::createChunkRenderer);
+	}
+
+	private VerticalHatchRenderer(boolean noRegister)
+	{
+		super(noRegister);
+		//the frame is already drawn with the chunk, the door itself stays with the tile entity
+		staticRendering = false;
+	}
+
+	@Override
+	protected DoorRenderer createChunkRenderer()
+	{
+		return new VerticalHatchRenderer(true);
 	}
 
 	@Override
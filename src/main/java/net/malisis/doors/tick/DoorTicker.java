@@ -0,0 +1,239 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Ordinastie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.malisis.doors.tick;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import net.malisis.doors.metrics.DoorMetrics;
+import net.malisis.doors.metrics.DoorMetrics.Probe;
+import net.malisis.doors.tileentity.DoorTileEntity;
+import net.minecraft.world.World;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent.Phase;
+
+/**
+ * Ticks the {@link DoorTileEntity} that need it.<br>
+ * Doors are not {@link net.minecraft.util.ITickable} anymore, instead they get scheduled here when something happens to them (state
+ * change, neighbor change, chunk load). After each update, {@link DoorTileEntity#getNextTick()} tells when the door needs to be updated
+ * again : doors that need it every tick stay active, doors waiting for a deadline (animation end, auto-close) are put in a
+ * {@link TimerWheel}, and the others go to sleep.<br>
+ * Client and server worlds are kept in separate maps because they are ticked from different threads.
+ *
+ * @author Ordinastie
+ *
+ */
+public class DoorTicker
+{
+	public static final DoorTicker instance = new DoorTicker();
+
+	private final Map<World, WorldTicker> serverWorlds = new WeakHashMap<>();
+	private final Map<World, WorldTicker> clientWorlds = new WeakHashMap<>();
+
+	private DoorTicker()
+	{}
+
+	private Map<World, WorldTicker> worlds(World world)
+	{
+		return world.isRemote ? clientWorlds : serverWorlds;
+	}
+
+	private WorldTicker get(World world)
+	{
+		return worlds(world).computeIfAbsent(world, WorldTicker::new);
+	}
+
+	/**
+	 * Gets the number of doors currently scheduled in the world.
+	 *
+	 * @param world the world
+	 * @return the number of scheduled doors
+	 */
+	public static int scheduledCount(World world)
+	{
+		WorldTicker ticker = instance.worlds(world).get(world);
+		return ticker != null ? ticker.active.size() + ticker.pending.size() + ticker.wheel.size() : 0;
+	}
+
+	/**
+	 * Gets the {@link PlayerIndex} for the world.
+	 *
+	 * @param world the world
+	 * @return the player index
+	 */
+	public static PlayerIndex getPlayerIndex(World world)
+	{
+		return instance.get(world).players;
+	}
+
+	/**
+	 * Schedules the {@link DoorTileEntity} to be ticked, starting next tick.<br>
+	 * The door will be ticked at least once, and then as requested by {@link DoorTileEntity#getNextTick()}.
+	 *
+	 * @param te the door
+	 */
+	public static void schedule(DoorTileEntity te)
+	{
+		if (te == null || te.getWorld() == null || te.isInvalid())
+			return;
+
+		instance.get(te.getWorld()).pending.add(te);
+	}
+
+	/**
+	 * Schedules the {@link DoorTileEntity} to be ticked in <code>delay</code> ticks.<br>
+	 * Used for deadlines that don't depend on the door state, like time of day schedules.
+	 *
+	 * @param te the door
+	 * @param delay the delay, in ticks
+	 */
+	public static void schedule(DoorTileEntity te, int delay)
+	{
+		if (te == null || te.getWorld() == null || te.isInvalid())
+			return;
+
+		instance.get(te.getWorld()).wheel.schedule(te, delay);
+	}
+
+	/**
+	 * Removes the {@link DoorTileEntity} from the scheduled doors.
+	 *
+	 * @param te the door
+	 */
+	public static void unschedule(DoorTileEntity te)
+	{
+		if (te == null || te.getWorld() == null)
+			return;
+
+		WorldTicker ticker = instance.worlds(te.getWorld()).get(te.getWorld());
+		if (ticker != null)
+			ticker.remove(te);
+	}
+
+	@SubscribeEvent
+	public void onWorldTick(TickEvent.WorldTickEvent event)
+	{
+		if (event.phase != Phase.END || event.world.isRemote)
+			return;
+
+		WorldTicker ticker = serverWorlds.get(event.world);
+		if (ticker != null)
+			ticker.tick();
+	}
+
+	@SubscribeEvent
+	public void onClientTick(TickEvent.ClientTickEvent event)
+	{
+		if (event.phase != Phase.END)
+			return;
+
+		for (WorldTicker ticker : clientWorlds.values())
+			ticker.tick();
+	}
+
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload event)
+	{
+		worlds(event.getWorld()).remove(event.getWorld());
+	}
+
+	private static class WorldTicker
+	{
+		private final World world;
+		private final PlayerIndex players;
+		private final Set<DoorTileEntity> active = new LinkedHashSet<>();
+		private final Set<DoorTileEntity> pending = new LinkedHashSet<>();
+		private final TimerWheel<DoorTileEntity> wheel = new TimerWheel<>();
+		private final List<DoorTileEntity> removed = new ArrayList<>();
+		private boolean ticking = false;
+
+		public WorldTicker(World world)
+		{
+			this.world = world;
+			this.players = new PlayerIndex(world);
+		}
+
+		public void remove(DoorTileEntity te)
+		{
+			pending.remove(te);
+			wheel.cancel(te);
+			if (ticking)
+				removed.add(te);
+			else
+				active.remove(te);
+		}
+
+		public void tick()
+		{
+			wheel.advance(active::add);
+			if (!pending.isEmpty())
+			{
+				active.addAll(pending);
+				pending.clear();
+			}
+
+			ticking = true;
+			Iterator<DoorTileEntity> it = active.iterator();
+			while (it.hasNext())
+			{
+				DoorTileEntity te = it.next();
+				if (te.isInvalid() || te.getWorld() != world)
+				{
+					it.remove();
+					continue;
+				}
+
+				//chunk not loaded, keep it scheduled for when it is
+				if (!world.isBlockLoaded(te.getPos(), false))
+					continue;
+
+				long start = DoorMetrics.start(te);
+				te.update();
+				DoorMetrics.record(Probe.UPDATE, te, start);
+				int delay = te.getNextTick();
+				if (delay != 1)
+				{
+					it.remove();
+					if (delay > 1)
+						wheel.schedule(te, delay);
+				}
+			}
+			ticking = false;
+
+			if (!removed.isEmpty())
+			{
+				active.removeAll(removed);
+				removed.clear();
+			}
+		}
+	}
+}
@@ -0,0 +1,123 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Ordinastie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.malisis.doors.tick;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.World;
+
+/**
+ * Grid index of the players positions in a {@link World}, used for door proximity detection.<br>
+ * The index is rebuilt lazily at most once per tick, the first time it is queried, so its cost depends on the number of players, not on the
+ * number of doors querying it.
+ *
+ * @author Ordinastie
+ *
+ */
+public class PlayerIndex
+{
+	/** Size of the grid cells, in blocks. */
+	private static final int CELL_SIZE = 4;
+
+	private final World world;
+	private final Map<Long, List<EntityPlayer>> cells = new HashMap<>();
+	private long lastBuild = Long.MIN_VALUE;
+
+	public PlayerIndex(World world)
+	{
+		this.world = world;
+	}
+
+	private static int cell(double coord)
+	{
+		return Math.floorDiv(MathHelper.floor(coord), CELL_SIZE);
+	}
+
+	private static long key(int cx, int cz)
+	{
+		return (long) cx << 32 | cz & 0xFFFFFFFFL;
+	}
+
+	private void rebuild()
+	{
+		long time = world.getTotalWorldTime();
+		if (time == lastBuild)
+			return;
+
+		lastBuild = time;
+		cells.clear();
+
+		for (EntityPlayer player : world.playerEntities)
+		{
+			if (player.isSpectator() || player.isDead)
+				continue;
+
+			AxisAlignedBB aabb = player.getEntityBoundingBox();
+			for (int cx = cell(aabb.minX); cx <= cell(aabb.maxX); cx++)
+				for (int cz = cell(aabb.minZ); cz <= cell(aabb.maxZ); cz++)
+					cells.computeIfAbsent(key(cx, cz), k -> new ArrayList<>(2)).add(player);
+		}
+	}
+
+	/**
+	 * Checks whether there is a player intersecting the {@link AxisAlignedBB}, once offset by the {@link BlockPos}.
+	 *
+	 * @param aabb the aabb
+	 * @param offset the offset
+	 * @return true, if a player was found
+	 */
+	public boolean hasPlayer(AxisAlignedBB aabb, BlockPos offset)
+	{
+		rebuild();
+
+		double minX = aabb.minX + offset.getX(), minY = aabb.minY + offset.getY(), minZ = aabb.minZ + offset.getZ();
+		double maxX = aabb.maxX + offset.getX(), maxY = aabb.maxY + offset.getY(), maxZ = aabb.maxZ + offset.getZ();
+
+		for (int cx = cell(minX); cx <= cell(maxX); cx++)
+		{
+			for (int cz = cell(minZ); cz <= cell(maxZ); cz++)
+			{
+				List<EntityPlayer> players = cells.get(key(cx, cz));
+				if (players == null)
+					continue;
+
+				for (EntityPlayer player : players)
+				{
+					if (player.getEntityBoundingBox().intersects(minX, minY, minZ, maxX, maxY, maxZ))
+						return true;
+				}
+			}
+		}
+
+		return false;
+	}
+}
@@ -0,0 +1,191 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Ordinastie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.malisis.doors.tick;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timer wheel, counting in ticks.<br>
+ * Each level has {@value #SIZE} slots, each slot of a level spanning a full turn of the previous level. Deadlines are placed in the
+ * level matching how far they are, and cascade down to the lower levels as the wheel turns, so that each {@link #advance(Consumer)} only
+ * handles the entries expiring on that tick.<br>
+ * Each element holds at most one deadline, the earliest one.
+ *
+ * @author Ordinastie
+ *
+ * @param <T> the type of the scheduled elements
+ */
+public class TimerWheel<T>
+{
+	private static final int BITS = 6;
+	private static final int SIZE = 1 << BITS;
+	private static final int MASK = SIZE - 1;
+	private static final int LEVELS = 3;
+
+	private final List<List<Entry<T>>> slots = new ArrayList<>(LEVELS * SIZE);
+	private List<Entry<T>> overflow = new ArrayList<>();
+	private final Map<T, Long> deadlines = new IdentityHashMap<>();
+	private long now = 0;
+
+	public TimerWheel()
+	{
+		for (int i = 0; i < LEVELS * SIZE; i++)
+			slots.add(new ArrayList<>());
+	}
+
+	/**
+	 * Gets the current tick of this {@link TimerWheel}.
+	 *
+	 * @return the current tick
+	 */
+	public long getTime()
+	{
+		return now;
+	}
+
+	/**
+	 * Gets the number of elements currently scheduled.
+	 *
+	 * @return the size
+	 */
+	public int size()
+	{
+		return deadlines.size();
+	}
+
+	/**
+	 * Schedules the element to expire in <code>delay</code> ticks.<br>
+	 * If the element is already scheduled to expire earlier, nothing changes.
+	 *
+	 * @param element the element
+	 * @param delay the delay, in ticks
+	 */
+	public void schedule(T element, int delay)
+	{
+		long deadline = now + Math.max(1, delay);
+		Long current = deadlines.get(element);
+		if (current != null && current <= deadline)
+			return;
+
+		deadlines.put(element, deadline);
+		place(new Entry<>(element, deadline));
+	}
+
+	/**
+	 * Removes the element from this {@link TimerWheel}.
+	 *
+	 * @param element the element
+	 */
+	public void cancel(T element)
+	{
+		//entry is left in its slot and ignored when reached
+		deadlines.remove(element);
+	}
+
+	private void place(Entry<T> entry)
+	{
+		long delta = entry.deadline - now;
+		for (int level = 0; level < LEVELS; level++)
+		{
+			if (delta < 1L << (BITS * (level + 1)))
+			{
+				int index = (int) (entry.deadline >> (BITS * level)) & MASK;
+				slots.get(level * SIZE + index).add(entry);
+				return;
+			}
+		}
+
+		overflow.add(entry);
+	}
+
+	private void cascade(List<Entry<T>> entries)
+	{
+		if (entries.isEmpty())
+			return;
+
+		List<Entry<T>> list = new ArrayList<>(entries);
+		entries.clear();
+		for (Entry<T> entry : list)
+		{
+			if (isCurrent(entry))
+				place(entry);
+		}
+	}
+
+	private boolean isCurrent(Entry<T> entry)
+	{
+		Long deadline = deadlines.get(entry.element);
+		return deadline != null && deadline == entry.deadline;
+	}
+
+	/**
+	 * Advances this {@link TimerWheel} by one tick, and passes the elements expiring on that tick to the consumer.
+	 *
+	 * @param expired the consumer for the expired elements
+	 */
+	public void advance(Consumer<T> expired)
+	{
+		now++;
+
+		//cascade from the highest level so that entries moved down can cascade again on the same tick
+		if ((now & ((1L << (BITS * LEVELS)) - 1)) == 0)
+			cascade(overflow);
+		for (int level = LEVELS - 1; level > 0; level--)
+		{
+			if ((now & ((1L << (BITS * level)) - 1)) == 0)
+				cascade(slots.get(level * SIZE + ((int) (now >> (BITS * level)) & MASK)));
+		}
+
+		List<Entry<T>> entries = slots.get((int) now & MASK);
+		if (entries.isEmpty())
+			return;
+
+		List<Entry<T>> list = new ArrayList<>(entries);
+		entries.clear();
+		for (Entry<T> entry : list)
+		{
+			if (!isCurrent(entry))
+				continue;
+			deadlines.remove(entry.element);
+			expired.accept(entry.element);
+		}
+	}
+
+	private static class Entry<T>
+	{
+		private final T element;
+		private final long deadline;
+
+		public Entry(T element, long deadline)
+		{
+			this.element = element;
+			this.deadline = deadline;
+		}
+	}
+}
@@ -26,15 +26,14 @@ package net.malisis.doors.tileentity;
 
 import com.google.common.base.MoreObjects;
 
-import net.malisis.core.block.IBoundingBox;
 import net.malisis.core.block.component.DirectionalComponent;
+import net.malisis.core.util.AABBUtils;
 import net.malisis.core.util.MBlockState;
 import net.malisis.core.util.chunkcollision.ChunkCollision;
-import net.malisis.core.util.syncer.Sync;
-import net.malisis.core.util.syncer.Syncable;
 import net.malisis.doors.DoorDescriptor;
 import net.malisis.doors.DoorRegistry;
 import net.malisis.doors.DoorState;
+import net.malisis.doors.block.BigDoor;
 import net.malisis.doors.movement.CarriageDoorMovement;
 import net.malisis.doors.sound.BigDoorSound;
 import net.minecraft.block.state.IBlockState;
@@ -49,23 +48,43 @@ import net.minecraft.util.math.BlockPos;
  * @author Ordinastie
  *
  */
-@Syncable("TileEntity")
 public class BigDoorTileEntity extends DoorTileEntity
 {
+	private static DoorDescriptor BIG_DOOR_DESCRIPTOR;
+	/** Space swept by the door leaves while they open, relative to the door before rotation. */
+	private static final AxisAlignedBB RENDER_BOUNDS = new AxisAlignedBB(-1, 0, -1.5F, 5, 5, 1.5F);
+
 	private IBlockState frameState;
+	/** Cached render bounds, for {@link #renderDirection}. */
+	private AxisAlignedBB renderBounds;
+	private EnumFacing renderDirection;
+	/** State passed to the {@link ChunkCollision}, the door can't change position. */
+	private MBlockState blockState;
+	private final AxisAlignedBB[] closedBoxes = new AxisAlignedBB[BigDoor.CLOSED_AABBS.length];
+	private final AxisAlignedBB[] openedBoxes = new AxisAlignedBB[BigDoor.OPENED_AABBS.length];
 
 	public BigDoorTileEntity()
 	{
-		DoorDescriptor descriptor = new DoorDescriptor();
-		descriptor.setMovement(DoorRegistry.getMovement(CarriageDoorMovement.class));
-		descriptor.setSound(DoorRegistry.getSound(BigDoorSound.class));
-		descriptor.setDoubleDoor(false);
-		descriptor.setOpeningTime(20);
-		setDescriptor(descriptor);
+		if (BIG_DOOR_DESCRIPTOR == null)
+		{
+			DoorDescriptor descriptor = new DoorDescriptor();
+			descriptor.setMovement(DoorRegistry.getMovement(CarriageDoorMovement.class));
+			descriptor.setSound(DoorRegistry.getSound(BigDoorSound.class));
+			descriptor.setDoubleDoor(false);
+			descriptor.setOpeningTime(20);
+			BIG_DOOR_DESCRIPTOR = DoorDescriptor.intern(descriptor);
+		}
+		setDescriptor(BIG_DOOR_DESCRIPTOR);
 
 		frameState = Blocks.QUARTZ_BLOCK.getDefaultState();
 	}
 
+	@Override
+	protected DoorDescriptor getDefaultDescriptor()
+	{
+		return BIG_DOOR_DESCRIPTOR;
+	}
+
 	public IBlockState getFrameState()
 	{
 		return frameState;
@@ -114,20 +133,38 @@ public class BigDoorTileEntity extends DoorTileEntity
 	}
 
 	@Override
-	@Sync("state")
-	public void setDoorState(DoorState newState)
+	public void setDoorState(DoorState newState, boolean notify)
 	{
-		boolean moving = this.moving;
-		MBlockState state = null;
-		if (getWorld() != null)
+		//the collision volumes only change when the door leaves or reaches the closed state
+		boolean flip = getWorld() != null && state != newState && (state == DoorState.CLOSED || newState == DoorState.CLOSED);
+		if (!flip)
 		{
-			state = new MBlockState(pos, getBlockType());
-			ChunkCollision.get().updateBlocks(getWorld(), state);
+			super.setDoorState(newState, notify);
+			return;
 		}
 
-		super.setDoorState(newState);
-		if (getWorld() != null && moving && !this.moving)
-			ChunkCollision.get().replaceBlocks(getWorld(), state);
+		//notify the blocks in the previous volumes, and replace the ones inside the new volumes
+		if (blockState == null)
+			blockState = new MBlockState(pos, getBlockType());
+		ChunkCollision.get().updateBlocks(getWorld(), blockState);
+		super.setDoorState(newState, notify);
+		ChunkCollision.get().replaceBlocks(getWorld(), blockState);
+	}
+
+	/**
+	 * Gets the bounding boxes of this door for its current state, relative to the door before rotation.<br>
+	 * The boxes are copied from {@link BigDoor#CLOSED_AABBS} or {@link BigDoor#OPENED_AABBS} into an array kept by this door, because the
+	 * callers rotate and offset the array in place.
+	 *
+	 * @return the bounding boxes
+	 */
+	public AxisAlignedBB[] getBoundingBoxes()
+	{
+		boolean opened = state != DoorState.CLOSED;
+		AxisAlignedBB[] source = opened ? BigDoor.OPENED_AABBS : BigDoor.CLOSED_AABBS;
+		AxisAlignedBB[] aabbs = opened ? openedBoxes : closedBoxes;
+		System.arraycopy(source, 0, aabbs, 0, source.length);
+		return aabbs;
 	}
 
 	public ItemStack getDroppedItemStack()
@@ -142,7 +179,13 @@ public class BigDoorTileEntity extends DoorTileEntity
 	@Override
 	public AxisAlignedBB getRenderBoundingBox()
 	{
-		return IBoundingBox.getRenderingBounds(world, pos);
+		EnumFacing direction = getDirection();
+		if (renderBounds == null || direction != renderDirection)
+		{
+			renderBounds = AABBUtils.rotate(RENDER_BOUNDS, direction).offset(pos);
+			renderDirection = direction;
+		}
+		return renderBounds;
 	}
 
 	@Override
@@ -24,7 +24,6 @@
 
 package net.malisis.doors.tileentity;
 
-import net.malisis.core.util.syncer.Syncable;
 import net.malisis.doors.block.Door;
 import net.malisis.doors.item.CustomDoorItem;
 import net.minecraft.block.state.IBlockState;
@@ -38,12 +37,13 @@ import org.apache.commons.lang3.tuple.Triple;
  * @author Ordinastie
  *
  */
-@Syncable("TileEntity")
 public class CustomDoorTileEntity extends DoorTileEntity
 {
 	private IBlockState frame = Blocks.PLANKS.getDefaultState();
 	private IBlockState top = Blocks.GLASS.getDefaultState();
 	private IBlockState bottom = Blocks.GLASS.getDefaultState();
+	/** Icons and colors resolved by the renderer on the client, kept as long as the materials and neighbors don't change. */
+	private Object renderCache;
 
 	//#region Getters/setters
 	public IBlockState getFrame()
@@ -61,6 +61,29 @@ public class CustomDoorTileEntity extends DoorTileEntity
 		return bottom;
 	}
 
+	/**
+	 * Gets the render data cached for this {@link CustomDoorTileEntity} by its renderer.
+	 *
+	 * @return the render cache, or null if not built yet or invalidated
+	 */
+	public Object getRenderCache()
+	{
+		return renderCache;
+	}
+
+	public void setRenderCache(Object renderCache)
+	{
+		this.renderCache = renderCache;
+	}
+
+	/**
+	 * Discards the render data cached, so that it's rebuilt the next time the door is rendered.
+	 */
+	public void invalidateRenderCache()
+	{
+		renderCache = null;
+	}
+
 	@SuppressWarnings("deprecation")
 	public int getLightValue()
 	{
@@ -88,6 +111,7 @@ public class CustomDoorTileEntity extends DoorTileEntity
 		frame = triple.getLeft();
 		top = triple.getMiddle();
 		bottom = triple.getRight();
+		invalidateRenderCache();
 
 		setCentered(shouldCenter());
 	}
@@ -101,6 +125,7 @@ public class CustomDoorTileEntity extends DoorTileEntity
 		frame = triple.getLeft();
 		top = triple.getMiddle();
 		bottom = triple.getRight();
+		invalidateRenderCache();
 	}
 
 	@Override
@@ -0,0 +1,238 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Ordinastie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package net.malisis.doors.tileentity;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import net.malisis.doors.group.DoorGroup;
+import net.malisis.doors.group.DoorGroupRegistry;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+
+/**
+ * Tile entity of the door controller block, owning a {@link DoorGroup} of linked doors.<br>
+ * The group is registered in the {@link DoorGroupRegistry} while the controller is loaded, so that the linked doors open and close with
+ * it instead of on their own.
+ *
+ * @author Ordinastie
+ *
+ */
+public class DoorControllerTileEntity extends TileEntity
+{
+	private Set<BlockPos> doors = new LinkedHashSet<>();
+	private DoorGroup group;
+	private boolean registered = false;
+	private boolean powered = false;
+
+	public Set<BlockPos> getLinkedDoors()
+	{
+		return doors;
+	}
+
+	/**
+	 * Sets the positions of the doors controlled by this {@link DoorControllerTileEntity}.
+	 *
+	 * @param doors the positions of the doors
+	 */
+	public void setLinkedDoors(Collection<BlockPos> doors)
+	{
+		boolean wasRegistered = registered;
+		unregister();
+		this.doors = new LinkedHashSet<>(doors);
+		group = null;
+		if (wasRegistered)
+			register();
+		markDirty();
+	}
+
+	public DoorGroup getGroup()
+	{
+		if (group == null && world != null)
+			group = new ControllerGroup();
+		return group;
+	}
+
+	public boolean isPowered()
+	{
+		return powered;
+	}
+
+	/**
+	 * Opens or closes the linked doors when the redstone power of this {@link DoorControllerTileEntity} changes.
+	 *
+	 * @param powered whether the controller is powered
+	 */
+	public void setPowered(boolean powered)
+	{
+		if (this.powered == powered)
+			return;
+
+		this.powered = powered;
+		markDirty();
+		getGroup().setPowered(powered);
+	}
+
+	/**
+	 * Opens or closes all the linked doors.
+	 */
+	public void toggle()
+	{
+		getGroup().toggle();
+	}
+
+	private void register()
+	{
+		if (registered || world == null || world.isRemote)
+			return;
+
+		DoorGroupRegistry.register(getGroup());
+		registered = true;
+	}
+
+	private void unregister()
+	{
+		if (!registered)
+			return;
+
+		DoorGroupRegistry.unregister(group);
+		registered = false;
+	}
+
+	@Override
+	public void onLoad()
+	{
+		register();
+	}
+
+	@Override
+	public void onChunkUnload()
+	{
+		unregister();
+	}
+
+	@Override
+	public void invalidate()
+	{
+		super.invalidate();
+		unregister();
+	}
+
+	//#region NBT
+	/**
+	 * Reads the positions of the linked doors from the tag.<br>
+	 * Also used for the controller items, which keep the doors linked before the controller is placed.
+	 *
+	 * @param tag the tag
+	 * @return the positions of the doors
+	 */
+	public static Set<BlockPos> readDoors(NBTTagCompound tag)
+	{
+		Set<BlockPos> doors = new LinkedHashSet<>();
+		int[] coords = tag.getIntArray("doors");
+		for (int i = 0; i + 2 < coords.length; i += 3)
+			doors.add(new BlockPos(coords[i], coords[i + 1], coords[i + 2]));
+		return doors;
+	}
+
+	/**
+	 * Writes the positions of the linked doors to the tag.
+	 *
+	 * @param tag the tag
+	 * @param doors the positions of the doors
+	 */
+	public static void writeDoors(NBTTagCompound tag, Collection<BlockPos> doors)
+	{
+		int[] coords = new int[doors.size() * 3];
+		int i = 0;
+		for (BlockPos pos : doors)
+		{
+			coords[i++] = pos.getX();
+			coords[i++] = pos.getY();
+			coords[i++] = pos.getZ();
+		}
+		tag.setIntArray("doors", coords);
+	}
+
+	@Override
+	public void readFromNBT(NBTTagCompound nbt)
+	{
+		super.readFromNBT(nbt);
+		powered = nbt.getBoolean("powered");
+		//also called when placed from an item holding linked doors, after the controller was loaded
+		setLinkedDoors(readDoors(nbt));
+	}
+
+	@Override
+	public NBTTagCompound writeToNBT(NBTTagCompound nbt)
+	{
+		super.writeToNBT(nbt);
+		writeDoors(nbt, doors);
+		nbt.setBoolean("powered", powered);
+		return nbt;
+	}
+	//#end NBT
+
+	/**
+	 * Group of the linked doors, also powered by the controller.<br>
+	 * The powered doors are tracked as their power changes, so that checking the group power doesn't look up all the doors.
+	 */
+	private class ControllerGroup extends DoorGroup
+	{
+		private final Set<BlockPos> poweredDoors = new HashSet<>();
+
+		public ControllerGroup()
+		{
+			super(world, doors);
+			for (DoorTileEntity te : getDoors())
+				onDoorPowered(te.getPos(), te.isPowered());
+		}
+
+		@Override
+		public void onDoorPowered(BlockPos pos, boolean powered)
+		{
+			if (powered)
+				poweredDoors.add(pos);
+			else
+				poweredDoors.remove(pos);
+		}
+
+		@Override
+		protected boolean isControlled()
+		{
+			return true;
+		}
+
+		@Override
+		public boolean isPowered()
+		{
+			return powered || !poweredDoors.isEmpty();
+		}
+	}
+}
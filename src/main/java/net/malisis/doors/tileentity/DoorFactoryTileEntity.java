@@ -47,6 +47,11 @@ import net.minecraft.item.ItemDoor;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumFacing;
+import net.minecraftforge.common.capabilities.Capability;
+import net.minecraftforge.items.CapabilityItemHandler;
+import net.minecraftforge.items.IItemHandler;
+import net.minecraftforge.items.ItemHandlerHelper;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 
@@ -74,6 +79,12 @@ public class DoorFactoryTileEntity extends TileEntity implements IDirectInventor
 	public MalisisSlot doorEditSlot;
 	public MalisisSlot outputSlot;
 
+	/** Item handlers exposed to automation : all slots, frame from above, materials from the sides, output from below. */
+	private IItemHandler itemHandler;
+	private IItemHandler frameHandler;
+	private IItemHandler materialHandler;
+	private IItemHandler outputHandler;
+
 	public DoorFactoryTileEntity()
 	{
 		frameSlot = new DoorFactorySlot(true);
@@ -84,6 +95,11 @@ public class DoorFactoryTileEntity extends TileEntity implements IDirectInventor
 		outputSlot.setOutputSlot();
 
 		inventory = new MalisisInventory(this, frameSlot, topMaterialSlot, bottomMaterialSlot, doorEditSlot, outputSlot);
+
+		itemHandler = new DoorFactoryItemHandler(frameSlot, topMaterialSlot, bottomMaterialSlot, doorEditSlot, outputSlot);
+		frameHandler = new DoorFactoryItemHandler(frameSlot);
+		materialHandler = new DoorFactoryItemHandler(topMaterialSlot, bottomMaterialSlot);
+		outputHandler = new DoorFactoryItemHandler(outputSlot);
 	}
 
 	public boolean isCreate()
@@ -190,6 +206,17 @@ public class DoorFactoryTileEntity extends TileEntity implements IDirectInventor
 	}
 
 	public void createDoor()
+	{
+		createDoor(1);
+	}
+
+	/**
+	 * Creates up to <code>count</code> doors at once, limited by the materials available and the room left in the output slot.<br>
+	 * The door {@link ItemStack} is built once for the whole batch. In edit mode, the whole stack of doors is always edited.
+	 *
+	 * @param count the number of doors to create
+	 */
+	public void createDoor(int count)
 	{
 		if (getWorld().isRemote)
 			return;
@@ -204,12 +231,17 @@ public class DoorFactoryTileEntity extends TileEntity implements IDirectInventor
 			if (expected == null)
 				return;
 
-			if (output.getCount() >= output.getMaxStackSize() || !new ItemStacksMerger(expected, output).canMerge())
+			count = Math.min(count, expected.getMaxStackSize() - output.getCount());
+			count = Math.min(count, frameSlot.getItemStack().getCount());
+			count = Math.min(count, topMaterialSlot.getItemStack().getCount());
+			count = Math.min(count, bottomMaterialSlot.getItemStack().getCount());
+			if (count <= 0 || !new ItemStacksMerger(expected, output).canMerge())
 				return;
 
-			frameSlot.extract(1);
-			topMaterialSlot.extract(1);
-			bottomMaterialSlot.extract(1);
+			expected.setCount(count);
+			frameSlot.extract(count);
+			topMaterialSlot.extract(count);
+			bottomMaterialSlot.extract(count);
 			outputSlot.insert(expected);
 		}
 		else
@@ -305,6 +337,29 @@ public class DoorFactoryTileEntity extends TileEntity implements IDirectInventor
 		inventory.readFromNBT(nbt);
 	}
 
+	@Override
+	public boolean hasCapability(Capability<?> capability, EnumFacing facing)
+	{
+		return capability == CapabilityItemHandler.ITEM_HANDLER_CAPABILITY || super.hasCapability(capability, facing);
+	}
+
+	@Override
+	public <T> T getCapability(Capability<T> capability, EnumFacing facing)
+	{
+		if (capability != CapabilityItemHandler.ITEM_HANDLER_CAPABILITY)
+			return super.getCapability(capability, facing);
+
+		IItemHandler handler = itemHandler;
+		if (facing == EnumFacing.UP)
+			handler = frameHandler;
+		else if (facing == EnumFacing.DOWN)
+			handler = outputHandler;
+		else if (facing != null)
+			handler = materialHandler;
+
+		return CapabilityItemHandler.ITEM_HANDLER_CAPABILITY.cast(handler);
+	}
+
 	@Override
 	public NBTTagCompound getUpdateTag()
 	{
@@ -415,4 +470,91 @@ public class DoorFactoryTileEntity extends TileEntity implements IDirectInventor
 			return itemStack.getItem() instanceof DoorItem || itemStack.getItem() instanceof ItemDoor;
 		}
 	}
+
+	/**
+	 * {@link IItemHandler} giving access to some of the factory slots.<br>
+	 * Materials can only be inserted and doors only extracted. In create mode, the factory creates as many doors as possible each time
+	 * materials are inserted or doors extracted, so hoppers and pipes can run it without the GUI.
+	 */
+	private class DoorFactoryItemHandler implements IItemHandler
+	{
+		private final MalisisSlot[] slots;
+
+		public DoorFactoryItemHandler(MalisisSlot... slots)
+		{
+			this.slots = slots;
+		}
+
+		private void update()
+		{
+			markDirty();
+			if (isCreate)
+				createDoor(ItemUtils.FULL_STACK);
+		}
+
+		@Override
+		public int getSlots()
+		{
+			return slots.length;
+		}
+
+		@Override
+		public ItemStack getStackInSlot(int slot)
+		{
+			return slots[slot].getItemStack();
+		}
+
+		@Override
+		public ItemStack insertItem(int index, ItemStack stack, boolean simulate)
+		{
+			MalisisSlot slot = slots[index];
+			if (stack.isEmpty() || slot == outputSlot || !slot.isItemValid(stack))
+				return stack;
+
+			//keep both materials balanced, otherwise a hopper would fill the top material before the bottom one gets any
+			MalisisSlot other = slot == topMaterialSlot ? bottomMaterialSlot : slot == bottomMaterialSlot ? topMaterialSlot : null;
+			if (other != null && slot.getItemStack().getCount() > other.getItemStack().getCount() && other.isItemValid(stack)
+					&& (other.getItemStack().isEmpty() || ItemHandlerHelper.canItemStacksStack(stack, other.getItemStack())))
+				return stack;
+
+			ItemStack current = slot.getItemStack();
+			if (!current.isEmpty() && !ItemHandlerHelper.canItemStacksStack(stack, current))
+				return stack;
+
+			int count = Math.min(stack.getCount(), stack.getMaxStackSize() - current.getCount());
+			if (count <= 0)
+				return stack;
+
+			if (!simulate)
+			{
+				slot.setItemStack(ItemHandlerHelper.copyStackWithSize(stack, current.getCount() + count));
+				update();
+			}
+
+			return count == stack.getCount() ? ItemStack.EMPTY : ItemHandlerHelper.copyStackWithSize(stack, stack.getCount() - count);
+		}
+
+		@Override
+		public ItemStack extractItem(int index, int amount, boolean simulate)
+		{
+			MalisisSlot slot = slots[index];
+			ItemStack current = slot.getItemStack();
+			if (slot != outputSlot || current.isEmpty() || amount <= 0)
+				return ItemStack.EMPTY;
+
+			amount = Math.min(amount, current.getCount());
+			if (simulate)
+				return ItemHandlerHelper.copyStackWithSize(current, amount);
+
+			ItemStack extracted = slot.extract(amount);
+			update();
+			return extracted;
+		}
+
+		@Override
+		public int getSlotLimit(int slot)
+		{
+			return 64;
+		}
+	}
 }
@@ -24,35 +24,40 @@
 
 package net.malisis.doors.tileentity;
 
-import java.util.List;
 import java.util.Map;
 
 import org.apache.commons.lang3.ArrayUtils;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 
 import net.malisis.core.util.AABBUtils;
 import net.malisis.core.util.TileEntityUtils;
 import net.malisis.core.util.Timer;
-import net.malisis.core.util.syncer.Sync;
-import net.malisis.core.util.syncer.Syncable;
-import net.malisis.core.util.syncer.Syncer;
 import net.malisis.doors.DoorDescriptor;
+import net.malisis.doors.DoorDescriptor.RedstoneBehavior;
+import net.malisis.doors.DoorDescriptorPalette;
 import net.malisis.doors.DoorState;
+import net.malisis.doors.MalisisDoorsSettings;
 import net.malisis.doors.block.Door;
+import net.malisis.doors.group.DoorGroup;
+import net.malisis.doors.group.DoorGroupRegistry;
+import net.malisis.doors.metrics.DoorMetrics;
+import net.malisis.doors.metrics.DoorMetrics.Probe;
+import net.malisis.doors.metrics.DoorStatistics;
 import net.malisis.doors.movement.IDoorMovement;
+import net.malisis.doors.network.DoorStateMessage;
+import net.malisis.doors.tick.DoorTicker;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockDoor;
 import net.minecraft.block.properties.PropertyBool;
 import net.minecraft.block.state.IBlockState;
-import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.network.NetworkManager;
 import net.minecraft.network.play.server.SPacketUpdateTileEntity;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
-import net.minecraft.util.ITickable;
 import net.minecraft.util.SoundCategory;
 import net.minecraft.util.SoundEvent;
 import net.minecraft.util.math.AxisAlignedBB;
@@ -63,8 +68,7 @@ import net.minecraft.world.World;
  * @author Ordinastie
  *
  */
-@Syncable("TileEntity")
-public class DoorTileEntity extends TileEntity implements ITickable
+public class DoorTileEntity extends TileEntity
 {
 	//Door direction is vanilla. Logic is reversed from regular MalisisCore direction/rotation
 	private static final AxisAlignedBB BASE = new AxisAlignedBB(0, 0, -1, 1, 2, 3);
@@ -83,6 +87,18 @@ public class DoorTileEntity extends TileEntity implements ITickable
 	protected DoorState state = DoorState.CLOSED;
 	protected boolean moving;
 	protected boolean centered = false;
+	protected boolean powered = false;
+	protected boolean poweredDirty = true;
+	protected DoorTileEntity doubleDoor;
+	protected boolean doubleDoorResolved = false;
+	protected DoorGroup doubleDoorGroup;
+	protected DoorDescriptor syncedDescriptor;
+	protected boolean fullUpdateSent = false;
+	protected int paletteIndex = -1;
+	/** What this door currently adds to the {@link DoorStatistics}. */
+	private boolean statTracked = false;
+	private boolean statAnimation = false;
+	private boolean statAutoClose = false;
 	protected PropertyBool openProperty = BlockDoor.OPEN;
 
 	//#region Getter/Setter
@@ -93,8 +109,9 @@ public class DoorTileEntity extends TileEntity implements ITickable
 			if (getBlockType() == null)
 				return new DoorDescriptor(); //prevent crashes
 
-			if (getBlockType() instanceof Door)
-				descriptor = ((Door) getBlockType()).getDescriptor();
+			DoorDescriptor desc = getDefaultDescriptor();
+			if (desc != null)
+				descriptor = desc;
 		}
 		//prevents NPE ?
 		return descriptor != null ? descriptor : new DoorDescriptor();
@@ -103,6 +120,29 @@ public class DoorTileEntity extends TileEntity implements ITickable
 	public void setDescriptor(DoorDescriptor descriptor)
 	{
 		this.descriptor = descriptor;
+		paletteIndex = -1;
+		invalidateDoubleDoor();
+	}
+
+	/**
+	 * Gets the descriptor this DoorTileEntity uses when none was specifically set.<br>
+	 * The default descriptor is not saved.
+	 *
+	 * @return the default descriptor
+	 */
+	protected DoorDescriptor getDefaultDescriptor()
+	{
+		return getBlockType() instanceof Door ? ((Door) getBlockType()).getDescriptor() : null;
+	}
+
+	/**
+	 * Gets the index of the descriptor of this DoorTileEntity in the chunk palette, if it's not resolved yet.
+	 *
+	 * @return the palette index, or -1
+	 */
+	public int getPaletteIndex()
+	{
+		return paletteIndex;
 	}
 
 	public Timer getTimer()
@@ -110,7 +150,6 @@ public class DoorTileEntity extends TileEntity implements ITickable
 		return timer;
 	}
 
-	@Sync("state")
 	public DoorState getState()
 	{
 		return state;
@@ -178,13 +217,77 @@ public class DoorTileEntity extends TileEntity implements ITickable
 		return state.getBlock() instanceof Door && state.getValue(BlockDoor.HINGE) == BlockDoor.EnumHingePosition.LEFT;
 	}
 
+	/**
+	 * Checks whether this {@link DoorTileEntity} is powered.<br>
+	 * The value is cached and only refreshed by {@link #updatePowered()} when a neighbor changes, or the first time it's queried after the
+	 * chunk is loaded.
+	 *
+	 * @return true, if powered
+	 */
 	public boolean isPowered()
+	{
+		if (poweredDirty)
+			updatePowered();
+		return powered;
+	}
+
+	/**
+	 * Refreshes the cached redstone power for this {@link DoorTileEntity}.<br>
+	 * Wakes the door and its group up when it loses power, so that they can auto-close.
+	 *
+	 * @return true, if powered
+	 */
+	public boolean updatePowered()
+	{
+		boolean wasPowered = powered;
+		poweredDirty = false;
+		powered = readPowered();
+		if (wasPowered && !powered && !world.isRemote)
+			wakeUp();
+
+		DoorGroup group = DoorGroupRegistry.getGroup(world, pos);
+		if (group != null)
+			group.onDoorPowered(pos, isPowered());
+		return powered;
+	}
+
+	/**
+	 * Reads the redstone power for this {@link DoorTileEntity} from the world.<br>
+	 * Doors are powered through either of their two blocks.
+	 *
+	 * @return true, if powered
+	 */
+	protected boolean readPowered()
 	{
 		return getWorld().isBlockIndirectlyGettingPowered(pos) + getWorld().isBlockIndirectlyGettingPowered(pos.up()) != 0;
 	}
 
-	public boolean isDoubleDoorPowered()
+	/**
+	 * Schedules this {@link DoorTileEntity} and the other doors of its {@link DoorGroup}, which may have been held opened by its power.
+	 */
+	private void wakeUp()
 	{
+		DoorTicker.schedule(this);
+		DoorGroup group = getGroup();
+		if (group != null)
+		{
+			for (DoorTileEntity te : group.getDoors())
+				DoorTicker.schedule(te);
+		}
+	}
+
+	/**
+	 * Checks whether the {@link DoorGroup} of this {@link DoorTileEntity} is powered.
+	 *
+	 * @return true, if powered
+	 */
+	public boolean isGroupPowered()
+	{
+		DoorGroup group = world != null ? DoorGroupRegistry.getGroup(world, pos) : null;
+		if (group != null)
+			return group.isPowered();
+
+		//same as the double door group, without looking the doors up again
 		DoorTileEntity te = getDoubleDoor();
 		return te != null && te.isPowered();
 	}
@@ -208,8 +311,29 @@ public class DoorTileEntity extends TileEntity implements ITickable
 
 	public boolean setCentered(boolean centered)
 	{
+		return setCentered(centered, true);
+	}
+
+	/**
+	 * Sets whether this DoorTileEntity is centered in its block.
+	 *
+	 * @param centered whether the door is centered
+	 * @param notify whether to sync the door, false when read from NBT
+	 * @return the centered value
+	 */
+	public boolean setCentered(boolean centered, boolean notify)
+	{
+		if (this.centered == centered)
+			return centered;
+
 		this.centered = centered;
-		TileEntityUtils.notifyUpdate(this);
+		if (world != null && !world.isRemote)
+		{
+			if (notify)
+				sync();
+		}
+		else
+			TileEntityUtils.notifyUpdate(this);
 		return centered;
 	}
 
@@ -231,8 +355,9 @@ public class DoorTileEntity extends TileEntity implements ITickable
 
 	public void onBlockPlaced(Door door, ItemStack itemStack)
 	{
-		DoorDescriptor desc = itemStack.getTagCompound() != null ? new DoorDescriptor(itemStack.getTagCompound()) : door.getDescriptor();
+		DoorDescriptor desc = itemStack.getTagCompound() != null ? DoorDescriptor.fromNBT(itemStack.getTagCompound()) : door.getDescriptor();
 		setDescriptor(desc);
+		DoorTicker.schedule(this);
 	}
 
 	/**
@@ -251,11 +376,11 @@ public class DoorTileEntity extends TileEntity implements ITickable
 		if (state == DoorState.OPENING || state == DoorState.OPENED)
 			return false;
 
-		setDoorState(DoorState.OPENING);
-		DoorTileEntity te = getDoubleDoor();
-		if (te != null)
-			te.setDoorState(DoorState.OPENING);
+		DoorGroup group = getGroup();
+		if (group != null)
+			return group.open(this);
 
+		setDoorState(DoorState.OPENING);
 		return true;
 	}
 
@@ -264,11 +389,47 @@ public class DoorTileEntity extends TileEntity implements ITickable
 		if (state == DoorState.CLOSING || state == DoorState.CLOSED)
 			return false;
 
+		DoorGroup group = getGroup();
+		if (group != null)
+			return group.close(this);
+
 		setDoorState(DoorState.CLOSING);
-		DoorTileEntity te = getDoubleDoor();
-		if (te != null)
-			te.setDoorState(DoorState.CLOSING);
+		return true;
+	}
+
+	/**
+	 * Checks whether this DoorTileEntity can be opened and closed by redstone or by a door controller.<br>
+	 * Doors with a code, or only opened by hand, or locked by redstone can't.
+	 *
+	 * @return true, if the door can be controlled
+	 */
+	public boolean canBeControlled()
+	{
+		if (getDescriptor().hasCode())
+			return false;
+
+		RedstoneBehavior behavior = getDescriptor().getRedstoneBehavior();
+		return behavior != RedstoneBehavior.HAND_ONLY && behavior != RedstoneBehavior.REDSTONE_LOCK;
+	}
+
+	/**
+	 * Starts opening or closing this DoorTileEntity as part of its {@link DoorGroup}.<br>
+	 * The door is neither synced nor plays its sound, the group does it once for all its doors.
+	 *
+	 * @param newState {@link DoorState#OPENING} or {@link DoorState#CLOSING}
+	 * @param controlled whether the door is moved by a controller, in which case it must {@link #canBeControlled() be controllable}
+	 * @return true, if the door changed state and needs to be synced by the group
+	 */
+	public boolean moveInGroup(DoorState newState, boolean controlled)
+	{
+		if (controlled && !canBeControlled())
+			return false;
+
+		DoorState end = newState == DoorState.OPENING ? DoorState.OPENED : DoorState.CLOSED;
+		if (state == newState || state == end)
+			return false;
 
+		setDoorState(newState, false);
 		return true;
 	}
 
@@ -277,8 +438,18 @@ public class DoorTileEntity extends TileEntity implements ITickable
 	 *
 	 * @param newState the new door state
 	 */
-	@Sync("state")
 	public void setDoorState(DoorState newState)
+	{
+		setDoorState(newState, true);
+	}
+
+	/**
+	 * Change the current state of this DoorTileEntity.
+	 *
+	 * @param newState the new door state
+	 * @param notify whether to sync the door and play its sound, false when a {@link DoorGroup} does it for all its doors
+	 */
+	public void setDoorState(DoorState newState, boolean notify)
 	{
 		if (state == newState)
 			return;
@@ -287,6 +458,10 @@ public class DoorTileEntity extends TileEntity implements ITickable
 		if (getWorld() == null)
 			return;
 
+		long start = DoorMetrics.start(this);
+		DoorTicker.schedule(this);
+		boolean wasMoving = moving;
+
 		if (state == DoorState.CLOSING || state == DoorState.OPENING)
 		{
 			if (moving)
@@ -299,10 +474,6 @@ public class DoorTileEntity extends TileEntity implements ITickable
 				timer.start();
 				moving = true;
 			}
-
-			if (!world.isRemote)
-				Syncer.sync(this, "state");
-
 		}
 		else
 		{
@@ -312,7 +483,98 @@ public class DoorTileEntity extends TileEntity implements ITickable
 			moving = false;
 		}
 
-		playSound();
+		//moving doors are drawn by their renderer, doors at rest with the chunk
+		if (wasMoving != moving)
+			updateRender();
+
+		if (notify)
+		{
+			if (needsSync())
+				sync();
+			playSound();
+		}
+		if (!world.isRemote)
+			DoorStatistics.stateTransition();
+		updateStatistics(statTracked);
+		DoorMetrics.record(Probe.SET_STATE, this, start);
+	}
+
+	/**
+	 * Updates what this {@link DoorTileEntity} adds to the {@link DoorStatistics}, so that unloading it removes exactly what it added.
+	 *
+	 * @param tracked whether the door should be counted at all
+	 */
+	protected void updateStatistics(boolean tracked)
+	{
+		if (world == null || world.isRemote)
+			return;
+
+		if (statTracked != tracked)
+		{
+			statTracked = tracked;
+			DoorStatistics.tileEntity(this, tracked ? 1 : -1);
+		}
+
+		boolean animation = tracked && moving;
+		if (statAnimation != animation)
+		{
+			statAnimation = animation;
+			DoorStatistics.animation(animation ? 1 : -1);
+		}
+
+		boolean autoClose = tracked && state == DoorState.OPENED && getDescriptor() != null && getDescriptor().getAutoCloseTime() > 0;
+		if (statAutoClose != autoClose)
+		{
+			statAutoClose = autoClose;
+			DoorStatistics.autoCloseTimer(autoClose ? 1 : -1);
+		}
+	}
+
+	/**
+	 * Rebuilds the chunk geometry around this {@link DoorTileEntity} on the client, when doors at rest are rendered with the chunk.
+	 */
+	public void updateRender()
+	{
+		if (world == null || !world.isRemote || !MalisisDoorsSettings.staticDoorRendering.get())
+			return;
+
+		//flag 8 rebuilds the render chunk right away so the door doesn't disappear for a frame
+		IBlockState state = world.getBlockState(pos);
+		world.notifyBlockUpdate(pos, state, state, 8);
+	}
+
+	/**
+	 * Sends the state of this DoorTileEntity to the clients watching it.<br>
+	 * The descriptor is only sent if it changed since the last time.
+	 */
+	public void sync()
+	{
+		if (world == null || world.isRemote)
+			return;
+
+		DoorStateMessage.send(this, !isDescriptorSynced());
+		syncedDescriptor = descriptor;
+	}
+
+	/**
+	 * Checks whether the last state change of this DoorTileEntity must be sent to the clients.<br>
+	 * Clients end the animations themselves, so only moving states are sent, unless the descriptor changed.
+	 *
+	 * @return true, if the door should be synced
+	 */
+	public boolean needsSync()
+	{
+		return moving || !isDescriptorSynced();
+	}
+
+	/**
+	 * Checks whether the clients already know the descriptor of this DoorTileEntity.
+	 *
+	 * @return true, if the descriptor doesn't need to be sent
+	 */
+	public boolean isDescriptorSynced()
+	{
+		return descriptor == null || descriptor == syncedDescriptor;
 	}
 
 	/**
@@ -332,13 +594,80 @@ public class DoorTileEntity extends TileEntity implements ITickable
 	}
 
 	/**
-	 * Find the corresponding double door for this DoorTileEntity.
+	 * Gets the corresponding double door for this DoorTileEntity.<br>
+	 * The link is resolved once with {@link #findDoubleDoor()} and kept until {@link #invalidateDoubleDoor()} is called, or the linked door
+	 * is invalidated.
 	 *
 	 * @return the double door
 	 */
 	public DoorTileEntity getDoubleDoor()
 	{
-		if (!getDescriptor().isDoubleDoor())
+		if (doubleDoor != null && (doubleDoor.isInvalid() || doubleDoor.getWorld() != world))
+			doubleDoorResolved = false;
+
+		//client doesn't get neighbor changes, so don't keep missing links there
+		if (!doubleDoorResolved || (doubleDoor == null && world != null && world.isRemote))
+		{
+			long start = world != null ? DoorMetrics.start(this) : 0;
+			doubleDoor = findDoubleDoor();
+			doubleDoorResolved = world != null;
+			DoorMetrics.record(Probe.DOUBLE_DOOR, this, start);
+		}
+
+		return doubleDoor;
+	}
+
+	/**
+	 * Clears the double door link for this DoorTileEntity and its linked door, so that it's resolved again next time it's needed.<br>
+	 * Called when a neighbor of the door changes.
+	 */
+	public void invalidateDoubleDoor()
+	{
+		DoorTileEntity te = doubleDoor;
+		doubleDoor = null;
+		doubleDoorResolved = false;
+		doubleDoorGroup = null;
+		if (te != null && te.doubleDoor == this)
+		{
+			te.doubleDoor = null;
+			te.doubleDoorResolved = false;
+			te.doubleDoorGroup = null;
+		}
+	}
+
+	/**
+	 * Gets the {@link DoorGroup} this DoorTileEntity opens and closes with.<br>
+	 * That's the group registered by a door controller if there's one, or else the group made of this door and its
+	 * {@link #getDoubleDoor() double door}.
+	 *
+	 * @return the group, or null if the door opens on its own
+	 */
+	public DoorGroup getGroup()
+	{
+		if (world == null)
+			return null;
+
+		DoorGroup group = DoorGroupRegistry.getGroup(world, pos);
+		if (group != null)
+			return group;
+
+		DoorTileEntity te = getDoubleDoor();
+		if (te == null)
+			return null;
+
+		if (doubleDoorGroup == null || !doubleDoorGroup.contains(te.getPos()))
+			doubleDoorGroup = new DoorGroup(world, ImmutableSet.of(pos, te.getPos()));
+		return doubleDoorGroup;
+	}
+
+	/**
+	 * Finds the corresponding double door for this DoorTileEntity.
+	 *
+	 * @return the double door
+	 */
+	protected DoorTileEntity findDoubleDoor()
+	{
+		if (world == null || !getDescriptor().isDoubleDoor())
 			return null;
 
 		EnumFacing offset = getDirection().rotateYCCW();
@@ -389,21 +718,22 @@ public class DoorTileEntity extends TileEntity implements ITickable
 		if (isOpened() == powered && !isMoving())
 			return;
 
-		DoorTileEntity te = getDoubleDoor();
-		if (!powered && te != null && te.isPowered())
+		DoorGroup group = getGroup();
+		if (group != null)
+		{
+			group.setPowered(powered, this);
 			return;
+		}
 
-		DoorState newState = powered ? DoorState.OPENING : DoorState.CLOSING;
-		setDoorState(newState);
-
-		if (te != null)
-			te.setDoorState(newState);
+		setDoorState(powered ? DoorState.OPENING : DoorState.CLOSING);
 	}
 
 	protected boolean hasPlayer()
 	{
-		List<EntityPlayer> list = world.getEntitiesWithinAABB(EntityPlayer.class, DETECT.get(getDirection()).offset(getPos()));
-		return list != null && !list.isEmpty();
+		long start = DoorMetrics.start(this);
+		boolean hasPlayer = DoorTicker.getPlayerIndex(world).hasPlayer(DETECT.get(getDirection()), getPos());
+		DoorMetrics.record(Probe.PROXIMITY, this, start);
+		return hasPlayer;
 	}
 
 	protected boolean doubleDoorHasPlayer()
@@ -412,15 +742,57 @@ public class DoorTileEntity extends TileEntity implements ITickable
 		return te != null && te.hasPlayer();
 	}
 
-	@Override
+	/**
+	 * Gets the number of ticks before this {@link DoorTileEntity} needs to be updated again by the {@link DoorTicker}.<br>
+	 * Idle doors are only woken up by state changes, neighbor changes or chunk loading.
+	 *
+	 * @return the delay in ticks, 1 to be updated every tick, or -1 if the door can sleep
+	 */
+	public int getNextTick()
+	{
+		if (!MalisisDoorsSettings.sleepIdleDoors.get())
+			return 1;
+
+		//only the server handles redstone, proximity and auto-close
+		if (!world.isRemote && getDescriptor().hasProximityDetection())
+			return 1;
+
+		//animating, wake up when it ends
+		if (moving)
+			return ticksUntil(getOpeningTime());
+
+		//waiting to auto-close, unless held opened by redstone until updatePowered() wakes it up
+		if (!world.isRemote && state == DoorState.OPENED && getDescriptor().getAutoCloseTime() > 0)
+			return isPowered() || isGroupPowered() ? -1 : ticksUntil(getDescriptor().getAutoCloseTime());
+
+		return -1;
+	}
+
+	private int ticksUntil(int tick)
+	{
+		//timer is based on real time, so wake up again next tick if the server ran ahead of it
+		return (int) Math.max(1, tick + 1 - timer.elapsedTick());
+	}
+
+	/**
+	 * Called by the {@link DoorTicker} while this {@link DoorTileEntity} is scheduled.
+	 */
 	public void update()
 	{
-		//animation finished, update state (current door only)
+		//animation finished, update state (the whole group on the server)
 		if (moving && timer.elapsedTick() > getOpeningTime())
-			setDoorState(getState() == DoorState.CLOSING ? DoorState.CLOSED : DoorState.OPENED);
+		{
+			DoorGroup group = world.isRemote ? null : getGroup();
+			if (group == null || !group.endAnimations())
+				setDoorState(getState() == DoorState.CLOSING ? DoorState.CLOSED : DoorState.OPENED);
+		}
+
+		//state changes are synced from the server
+		if (world.isRemote)
+			return;
 
 		//door is powered, open doors
-		if (isPowered() || isDoubleDoorPowered())
+		if (isPowered() || isGroupPowered())
 		{
 			open();
 			return;
@@ -447,17 +819,22 @@ public class DoorTileEntity extends TileEntity implements ITickable
 	{
 		super.readFromNBT(nbt);
 
-		//if (descriptor == null)
-		descriptor = new DoorDescriptor(nbt);
-		setDoorState(DoorState.values()[nbt.getInteger("state")]);
-		setCentered(nbt.getBoolean("centered"));
+		//no descriptor saved means the default one, and the palette index is resolved once the chunk is loaded
+		if (nbt.hasKey("descriptorIndex"))
+			paletteIndex = nbt.getInteger("descriptorIndex");
+		else if (DoorDescriptor.hasNBT(nbt))
+			setDescriptor(DoorDescriptor.fromNBT(nbt));
+		//the clients get the NBT as well, nothing to sync
+		setDoorState(DoorState.values()[nbt.getInteger("state")], false);
+		setCentered(nbt.getBoolean("centered"), false);
+		DoorTicker.schedule(this);
 	}
 
 	@Override
 	public NBTTagCompound writeToNBT(NBTTagCompound nbt)
 	{
 		super.writeToNBT(nbt);
-		if (descriptor != null)
+		if (descriptor != null && descriptor != getDefaultDescriptor())
 			descriptor.writeNBT(nbt);
 		nbt.setInteger("state", state.ordinal());
 		nbt.setBoolean("centered", centered);
@@ -468,15 +845,22 @@ public class DoorTileEntity extends TileEntity implements ITickable
 	@Override
 	public NBTTagCompound getUpdateTag()
 	{
+		syncedDescriptor = descriptor;
 		return writeToNBT(new NBTTagCompound());
 	}
 
+	/**
+	 * Only sends the full data once, when the door is placed or first updated after being loaded.<br>
+	 * After that, state changes are sent with {@link DoorStateMessage}.
+	 */
 	@Override
 	public SPacketUpdateTileEntity getUpdatePacket()
 	{
-		NBTTagCompound nbt = new NBTTagCompound();
-		this.writeToNBT(nbt);
-		return new SPacketUpdateTileEntity(pos, 0, nbt);
+		if (fullUpdateSent)
+			return null;
+
+		fullUpdateSent = true;
+		return new SPacketUpdateTileEntity(pos, 0, getUpdateTag());
 	}
 
 	@Override
@@ -487,6 +871,44 @@ public class DoorTileEntity extends TileEntity implements ITickable
 
 	//#end NBT/Network
 
+	@Override
+	public void onLoad()
+	{
+		if (paletteIndex != -1)
+			DoorDescriptorPalette.resolve(this);
+		poweredDirty = true;
+		DoorTicker.schedule(this);
+		updateStatistics(true);
+	}
+
+	@Override
+	public void onChunkUnload()
+	{
+		DoorTicker.unschedule(this);
+		updateStatistics(false);
+		unpowerGroup();
+	}
+
+	@Override
+	public void invalidate()
+	{
+		super.invalidate();
+		invalidateDoubleDoor();
+		DoorTicker.unschedule(this);
+		updateStatistics(false);
+		unpowerGroup();
+	}
+
+	/**
+	 * Stops powering the registered {@link DoorGroup} of this DoorTileEntity once it's unloaded.
+	 */
+	private void unpowerGroup()
+	{
+		DoorGroup group = world != null ? DoorGroupRegistry.getGroup(world, pos) : null;
+		if (group != null)
+			group.onDoorPowered(pos, false);
+	}
+
 	/**
 	 * Specify the bounding box ourselves otherwise, the block bounding box would be use. (And it should be at this point {0, 0, 0})
 	 */
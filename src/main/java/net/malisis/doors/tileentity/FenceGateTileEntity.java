@@ -28,7 +28,6 @@ import org.apache.commons.lang3.tuple.Pair;
 
 import net.malisis.core.renderer.MalisisRenderer;
 import net.malisis.core.util.TileEntityUtils;
-import net.malisis.core.util.syncer.Syncable;
 import net.malisis.doors.DoorDescriptor;
 import net.malisis.doors.DoorRegistry;
 import net.malisis.doors.movement.FenceGateMovement;
@@ -44,7 +43,6 @@ import net.minecraft.util.math.BlockPos;
 /**
  * @author Ordinastie
  */
-@Syncable("TileEntity")
 public class FenceGateTileEntity extends DoorTileEntity
 {
 	private static DoorDescriptor FENCE_GATE_DESCRIPTOR;
@@ -55,18 +53,24 @@ public class FenceGateTileEntity extends DoorTileEntity
 
 	public FenceGateTileEntity()
 	{
-		//can't initialize statically because class is loaded from MalisisCore (@Sync) and triggers unavoidable warnings
 		if (FENCE_GATE_DESCRIPTOR == null)
 		{
-			FENCE_GATE_DESCRIPTOR = new DoorDescriptor();
-			FENCE_GATE_DESCRIPTOR.setMovement(DoorRegistry.getMovement(FenceGateMovement.class));
-			FENCE_GATE_DESCRIPTOR.setSound(DoorRegistry.getSound(FenceGateSound.class));
+			DoorDescriptor descriptor = new DoorDescriptor();
+			descriptor.setMovement(DoorRegistry.getMovement(FenceGateMovement.class));
+			descriptor.setSound(DoorRegistry.getSound(FenceGateSound.class));
+			FENCE_GATE_DESCRIPTOR = DoorDescriptor.intern(descriptor);
 		}
 
 		setDescriptor(FENCE_GATE_DESCRIPTOR);
 		openProperty = BlockFenceGate.OPEN;
 	}
 
+	@Override
+	protected DoorDescriptor getDefaultDescriptor()
+	{
+		return FENCE_GATE_DESCRIPTOR;
+	}
+
 	@Override
 	public IBlockState getBlockState()
 	{
@@ -154,7 +158,13 @@ public class FenceGateTileEntity extends DoorTileEntity
 	@Override
 	public FenceGateTileEntity getDoubleDoor()
 	{
-		if (!descriptor.isDoubleDoor())
+		return (FenceGateTileEntity) super.getDoubleDoor();
+	}
+
+	@Override
+	protected FenceGateTileEntity findDoubleDoor()
+	{
+		if (world == null || !descriptor.isDoubleDoor())
 			return null;
 
 		EnumFacing dir = getDirection().rotateY();
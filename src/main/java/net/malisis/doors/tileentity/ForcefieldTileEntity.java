@@ -31,6 +31,7 @@ import net.malisis.core.util.syncer.Sync;
 import net.malisis.core.util.syncer.Syncable;
 import net.malisis.core.util.syncer.Syncer;
 import net.malisis.doors.MalisisDoors;
+import net.malisis.doors.metrics.DoorStatistics;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.tileentity.TileEntity;
@@ -47,6 +48,8 @@ public class ForcefieldTileEntity extends TileEntity
 {
 	private AABBMultiBlock multiBlock;
 	private boolean opened = false;
+	/** Number of blocks this forcefield currently adds to the {@link DoorStatistics}, or -1 if not counted. */
+	private int statBlocks = -1;
 
 	public ForcefieldTileEntity()
 	{
@@ -74,6 +77,11 @@ public class ForcefieldTileEntity extends TileEntity
 	public void setMultiBlock(AABBMultiBlock multiBlock)
 	{
 		this.multiBlock = multiBlock;
+		if (statBlocks != -1)
+		{
+			updateStatistics(false);
+			updateStatistics(true);
+		}
 	}
 
 	public AABBMultiBlock getMultiBlock()
@@ -81,6 +89,48 @@ public class ForcefieldTileEntity extends TileEntity
 		return multiBlock;
 	}
 
+	private int getBlockCount()
+	{
+		if (multiBlock == null)
+			return 0;
+		AxisAlignedBB aabb = multiBlock.getBoundingBox();
+		return (int) Math.round((aabb.maxX - aabb.minX) * (aabb.maxY - aabb.minY) * (aabb.maxZ - aabb.minZ));
+	}
+
+	private void updateStatistics(boolean tracked)
+	{
+		if (world == null || world.isRemote || tracked == (statBlocks != -1))
+			return;
+
+		if (tracked)
+			DoorStatistics.forcefield(1, statBlocks = getBlockCount());
+		else
+		{
+			DoorStatistics.forcefield(-1, statBlocks);
+			statBlocks = -1;
+		}
+		DoorStatistics.tileEntity(this, tracked ? 1 : -1);
+	}
+
+	@Override
+	public void onLoad()
+	{
+		updateStatistics(true);
+	}
+
+	@Override
+	public void onChunkUnload()
+	{
+		updateStatistics(false);
+	}
+
+	@Override
+	public void invalidate()
+	{
+		super.invalidate();
+		updateStatistics(false);
+	}
+
 	@Override
 	public void readFromNBT(NBTTagCompound tag)
 	{
@@ -125,6 +175,12 @@ public class ForcefieldTileEntity extends TileEntity
 		return pass == 1;
 	}
 
+	@Override
+	public boolean hasFastRenderer()
+	{
+		return true;
+	}
+
 	@Override
 	public NBTTagCompound getUpdateTag()
 	{
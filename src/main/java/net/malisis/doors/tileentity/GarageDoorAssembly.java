@@ -0,0 +1,159 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014 Ordinastie
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package net.malisis.doors.tileentity;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import net.minecraft.util.EnumFacing;
+
+/**
+ * Structure of a garage door : the columns of {@link GarageDoorTileEntity} connected side by side.<br>
+ * The assembly is built once from any of its doors, and shared by all of them until one of them {@link #invalidate() invalidates} it,
+ * when a block around changes.
+ *
+ * @author Ordinastie
+ *
+ */
+public class GarageDoorAssembly
+{
+	/** Columns ordered along the door, each one from top to bottom. */
+	private final List<List<GarageDoorTileEntity>> columns;
+	private final Map<GarageDoorTileEntity, List<GarageDoorTileEntity>> columnOf = new IdentityHashMap<>();
+	private boolean valid = true;
+
+	private GarageDoorAssembly(List<List<GarageDoorTileEntity>> columns)
+	{
+		this.columns = Collections.unmodifiableList(columns);
+		for (List<GarageDoorTileEntity> column : columns)
+		{
+			for (GarageDoorTileEntity te : column)
+			{
+				columnOf.put(te, column);
+				te.assembly = this;
+			}
+		}
+	}
+
+	/**
+	 * Gets the columns of this {@link GarageDoorAssembly}, ordered along the door.
+	 *
+	 * @return the columns
+	 */
+	public List<List<GarageDoorTileEntity>> getColumns()
+	{
+		return columns;
+	}
+
+	/**
+	 * Gets the column the door belongs to, from top to bottom.
+	 *
+	 * @param te the door
+	 * @return the column
+	 */
+	public List<GarageDoorTileEntity> getColumn(GarageDoorTileEntity te)
+	{
+		return columnOf.get(te);
+	}
+
+	public boolean isValid()
+	{
+		return valid;
+	}
+
+	/**
+	 * Invalidates this {@link GarageDoorAssembly} for all its doors, so it gets built again next time it's needed.
+	 */
+	public void invalidate()
+	{
+		valid = false;
+		for (GarageDoorTileEntity te : columnOf.keySet())
+		{
+			if (te.assembly == this)
+				te.assembly = null;
+		}
+	}
+
+	/**
+	 * Builds the {@link GarageDoorAssembly} the door is part of.
+	 *
+	 * @param te the door
+	 * @return the assembly
+	 */
+	public static GarageDoorAssembly build(GarageDoorTileEntity te)
+	{
+		EnumFacing dir = te.getDirection().rotateY();
+		LinkedList<List<GarageDoorTileEntity>> columns = new LinkedList<>();
+		Set<GarageDoorTileEntity> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+
+		List<GarageDoorTileEntity> column = buildColumn(te, visited);
+		columns.add(column);
+
+		//walk each side, stopping when reaching a door already part of the assembly
+		GarageDoorTileEntity next = column.get(0).getDoor(dir);
+		while (next != null && !visited.contains(next))
+		{
+			column = buildColumn(next, visited);
+			columns.addLast(column);
+			next = column.get(0).getDoor(dir);
+		}
+
+		next = columns.getFirst().get(0).getDoor(dir.getOpposite());
+		while (next != null && !visited.contains(next))
+		{
+			column = buildColumn(next, visited);
+			columns.addFirst(column);
+			next = column.get(0).getDoor(dir.getOpposite());
+		}
+
+		return new GarageDoorAssembly(new ArrayList<>(columns));
+	}
+
+	private static List<GarageDoorTileEntity> buildColumn(GarageDoorTileEntity te, Set<GarageDoorTileEntity> visited)
+	{
+		GarageDoorTileEntity top = te;
+		GarageDoorTileEntity up = top.getDoor(EnumFacing.UP);
+		while (up != null && !visited.contains(up))
+		{
+			top = up;
+			up = top.getDoor(EnumFacing.UP);
+		}
+
+		List<GarageDoorTileEntity> column = new ArrayList<>();
+		GarageDoorTileEntity door = top;
+		while (door != null && !visited.contains(door))
+		{
+			visited.add(door);
+			column.add(door);
+			door = door.getDoor(EnumFacing.DOWN);
+		}
+		return column;
+	}
+}
@@ -24,15 +24,12 @@
 
 package net.malisis.doors.tileentity;
 
-import java.util.Set;
-
-import com.google.common.collect.Sets;
+import java.util.List;
 
 import net.malisis.core.block.component.DirectionalComponent;
 import net.malisis.core.block.component.PowerComponent;
 import net.malisis.core.util.AABBUtils;
 import net.malisis.core.util.TileEntityUtils;
-import net.malisis.core.util.syncer.Syncable;
 import net.malisis.doors.DoorState;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.util.EnumFacing;
@@ -44,11 +41,16 @@ import net.minecraft.util.math.BlockPos;
  * @author Ordinastie
  *
  */
-@Syncable("TileEntity")
 public class GarageDoorTileEntity extends DoorTileEntity
 {
 	public static final int maxOpenTime = 10;
 
+	protected GarageDoorAssembly assembly;
+	/** Cached render bounds, for {@link #renderAssembly} and {@link #renderDirection}. */
+	private AxisAlignedBB renderBounds;
+	private GarageDoorAssembly renderAssembly;
+	private EnumFacing renderDirection;
+
 	@Override
 	public EnumFacing getDirection()
 	{
@@ -74,13 +76,33 @@ public class GarageDoorTileEntity extends DoorTileEntity
 	@Override
 	public int getOpeningTime()
 	{
-		return getTopDoor().getDoors().size() * maxOpenTime;
+		return getDoors().size() * maxOpenTime;
+	}
+
+	/**
+	 * Gets the {@link GarageDoorAssembly} this door is part of, building it if needed.
+	 *
+	 * @return the assembly
+	 */
+	public GarageDoorAssembly getAssembly()
+	{
+		if (assembly == null || !assembly.isValid())
+			assembly = GarageDoorAssembly.build(this);
+		return assembly;
+	}
+
+	/**
+	 * Invalidates the {@link GarageDoorAssembly} of this door, for all the doors in it.
+	 */
+	public void invalidateAssembly()
+	{
+		if (assembly != null)
+			assembly.invalidate();
 	}
 
 	public GarageDoorTileEntity getTopDoor()
 	{
-		GarageDoorTileEntity te = getDoor(EnumFacing.UP);
-		return te != null ? te.getTopDoor() : this;
+		return getDoors().get(0);
 	}
 
 	@Override
@@ -102,27 +124,26 @@ public class GarageDoorTileEntity extends DoorTileEntity
 		return te.isPowered() == te.isPowered() && te.getState() == getState() ? te : null;
 	}
 
-	public Set<GarageDoorTileEntity> getDoors()
+	/**
+	 * Gets the doors in the same column as this door, from top to bottom.
+	 *
+	 * @return the doors
+	 */
+	public List<GarageDoorTileEntity> getDoors()
 	{
-		Set<GarageDoorTileEntity> childDoors = Sets.newHashSet();
-		GarageDoorTileEntity te = this;
-		while (te != null)
-		{
-			childDoors.add(te);
-			te = te.getDoor(EnumFacing.DOWN);
-		}
-		return childDoors;
+		return getAssembly().getColumn(this);
 	}
 
 	@Override
 	public void setPowered(boolean powered)
 	{
-		if (!isTop())
-		{
-			getTopDoor().setPowered(powered);
-			return;
-		}
+		//the columns list is kept even if the assembly gets invalidated by the block changes below
+		for (List<GarageDoorTileEntity> column : getAssembly().getColumns())
+			column.get(0).setColumnPowered(column, powered);
+	}
 
+	private void setColumnPowered(List<GarageDoorTileEntity> column, boolean powered)
+	{
 		boolean isPowered = PowerComponent.isPowered(world, pos);
 		if (isPowered == powered && !isMoving())
 			return;
@@ -131,20 +152,22 @@ public class GarageDoorTileEntity extends DoorTileEntity
 			return;
 
 		DoorState newState = powered ? DoorState.OPENING : DoorState.CLOSING;
-		for (GarageDoorTileEntity te : getDoors())
+		for (GarageDoorTileEntity te : column)
 		{
 			te.setDoorState(newState);
 			world.setBlockState(te.getPos(), world.getBlockState(pos).withProperty(PowerComponent.getProperty(getBlockType()), powered));
 		}
+	}
 
-		EnumFacing dir = getDirection().rotateY();
-		GarageDoorTileEntity te = getDoor(dir);
-		if (te != null)
-			te.setPowered(powered);
+	@Override
+	public boolean moveInGroup(DoorState newState, boolean controlled)
+	{
+		if (controlled && !canBeControlled())
+			return false;
 
-		te = getDoor(dir.getOpposite());
-		if (te != null)
-			te.setPowered(powered);
+		//garage doors move by columns with their assembly, which syncs them
+		setPowered(newState == DoorState.OPENING);
+		return false;
 	}
 
 	@Override
@@ -164,8 +187,36 @@ public class GarageDoorTileEntity extends DoorTileEntity
 	@Override
 	public AxisAlignedBB getRenderBoundingBox()
 	{
-		Set<GarageDoorTileEntity> childDoors = getDoors();
-		return AABBUtils.identity(pos).grow(childDoors.size(), childDoors.size(), childDoors.size());
+		GarageDoorAssembly assembly = getAssembly();
+		EnumFacing direction = getDirection();
+		if (renderBounds == null || assembly != renderAssembly || direction != renderDirection)
+		{
+			renderBounds = AABBUtils.identity(pos);
+			//the top door renders its column : panels go up to the top, then slide horizontally under the ceiling
+			if (isTop())
+			{
+				int size = getDoors().size();
+				renderBounds = new AxisAlignedBB(pos.getX(), pos.getY() - size + 1, pos.getZ(), pos.getX() + 1, pos.getY() + 2, pos.getZ() + 1);
+				renderBounds = direction.getAxis() == Axis.X ? renderBounds.grow(size, 0, 0) : renderBounds.grow(0, 0, size);
+			}
+			renderAssembly = assembly;
+			renderDirection = direction;
+		}
+		return renderBounds;
+	}
+
+	@Override
+	public void onChunkUnload()
+	{
+		super.onChunkUnload();
+		invalidateAssembly();
+	}
+
+	@Override
+	public void invalidate()
+	{
+		super.invalidate();
+		invalidateAssembly();
 	}
 
 }
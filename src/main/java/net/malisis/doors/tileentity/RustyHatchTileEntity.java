@@ -25,7 +25,7 @@
 package net.malisis.doors.tileentity;
 
 import net.malisis.core.block.component.DirectionalComponent;
-import net.malisis.core.util.syncer.Syncable;
+import net.malisis.core.util.AABBUtils;
 import net.malisis.doors.DoorDescriptor;
 import net.malisis.doors.DoorRegistry;
 import net.malisis.doors.DoorState;
@@ -42,19 +42,34 @@ import net.minecraft.util.math.BlockPos;
  * @author Ordinastie
  *
  */
-@Syncable("TileEntity")
 public class RustyHatchTileEntity extends DoorTileEntity
 {
+	private static DoorDescriptor RUSTY_HATCH_DESCRIPTOR;
+
 	private boolean isTop = false;
+	/** Cached render bounds, for {@link #renderDirection} and {@link #renderTop}. */
+	private AxisAlignedBB renderBounds;
+	private EnumFacing renderDirection;
+	private boolean renderTop;
 
 	public RustyHatchTileEntity()
 	{
-		DoorDescriptor descriptor = new DoorDescriptor();
-		descriptor.setMovement(DoorRegistry.getMovement(RustyHatchMovement.class));
-		descriptor.setSound(DoorRegistry.getSound(RustyHatchSound.class));
-		descriptor.setDoubleDoor(false);
-		descriptor.setOpeningTime(60);
-		setDescriptor(descriptor);
+		if (RUSTY_HATCH_DESCRIPTOR == null)
+		{
+			DoorDescriptor descriptor = new DoorDescriptor();
+			descriptor.setMovement(DoorRegistry.getMovement(RustyHatchMovement.class));
+			descriptor.setSound(DoorRegistry.getSound(RustyHatchSound.class));
+			descriptor.setDoubleDoor(false);
+			descriptor.setOpeningTime(60);
+			RUSTY_HATCH_DESCRIPTOR = DoorDescriptor.intern(descriptor);
+		}
+		setDescriptor(RUSTY_HATCH_DESCRIPTOR);
+	}
+
+	@Override
+	protected DoorDescriptor getDefaultDescriptor()
+	{
+		return RUSTY_HATCH_DESCRIPTOR;
 	}
 
 	@Override
@@ -114,8 +129,16 @@ public class RustyHatchTileEntity extends DoorTileEntity
 	@Override
 	public AxisAlignedBB getRenderBoundingBox()
 	{
-		return INFINITE_EXTENT_AABB;
-		//return TileEntityUtils.getRenderingBounds(this);
+		//the hatch swings inside its multiblock, so its bounds cover the whole animation
+		EnumFacing direction = getDirection();
+		boolean top = isTop();
+		if (renderBounds == null || direction != renderDirection || top != renderTop)
+		{
+			renderBounds = AABBUtils.rotate(top ? RustyHatch.TOP_BOUNDS : RustyHatch.BOTTOM_BOUNDS, direction).offset(pos);
+			renderDirection = direction;
+			renderTop = top;
+		}
+		return renderBounds;
 	}
 
 	@Override
@@ -25,7 +25,8 @@
 package net.malisis.doors.tileentity;
 
 import net.malisis.core.util.AABBUtils;
-import net.malisis.core.util.syncer.Syncable;
+import net.malisis.doors.DoorDescriptor;
+import net.malisis.doors.block.TrapDoor;
 import net.minecraft.block.BlockTrapDoor;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.util.EnumFacing;
@@ -35,7 +36,6 @@ import net.minecraft.util.math.AxisAlignedBB;
  * @author Ordinastie
  *
  */
-@Syncable("TileEntity")
 public class TrapDoorTileEntity extends DoorTileEntity
 {
 	public TrapDoorTileEntity()
@@ -44,7 +44,13 @@ public class TrapDoorTileEntity extends DoorTileEntity
 	}
 
 	@Override
-	public DoorTileEntity getDoubleDoor()
+	protected DoorDescriptor getDefaultDescriptor()
+	{
+		return getBlockType() instanceof TrapDoor ? ((TrapDoor) getBlockType()).getDescriptor() : null;
+	}
+
+	@Override
+	protected DoorTileEntity findDoubleDoor()
 	{
 		return null;
 	}
@@ -61,6 +67,15 @@ public class TrapDoorTileEntity extends DoorTileEntity
 		return getBlockState().getValue(BlockTrapDoor.FACING);
 	}
 
+	/**
+	 * Trap doors are a single block, so only their own position is checked.
+	 */
+	@Override
+	protected boolean readPowered()
+	{
+		return world.isBlockPowered(pos);
+	}
+
 	public boolean isTop()
 	{
 		return getBlockState().getValue(BlockTrapDoor.HALF) == BlockTrapDoor.DoorHalf.TOP;
@@ -24,13 +24,11 @@
 
 package net.malisis.doors.tileentity;
 
-import net.malisis.core.util.syncer.Syncable;
 
 /**
  * @author Ordinastie
  *
  */
-@Syncable("TileEntity")
 public class VerticalHatchTileEntity extends DoorTileEntity
 {
 